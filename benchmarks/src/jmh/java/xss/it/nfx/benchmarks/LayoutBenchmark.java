@@ -0,0 +1,135 @@
+package xss.it.nfx.benchmarks;
+
+import com.xss.it.nfx.list.internals.ListLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class LayoutBenchmark {
+    /**
+     * The number of scroll positions laid out per invocation.
+     */
+    private static final int POSITIONS = 1024;
+
+    /**
+     * The height of the viewport.
+     */
+    private static final double VIEWPORT_HEIGHT = 800;
+
+    /**
+     * The width of the viewport.
+     */
+    private static final double VIEWPORT_WIDTH = 1200;
+
+    /**
+     * The height of a row.
+     */
+    private static final double CELL_HEIGHT = 50;
+
+    /**
+     * The gap on the left of the first cell of a row.
+     */
+    private static final double LEFT_GAP = 5;
+
+    /**
+     * The number of items.
+     */
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    /**
+     * The number of cells per row.
+     */
+    @Param({"1", "4"})
+    private int cellsPerRow;
+
+    /**
+     * The scroll positions, random to defeat branch prediction on the row boundaries.
+     */
+    private double[] vvalues;
+
+    /**
+     * The viewport widths of the resize sweep.
+     */
+    private double[] widths;
+
+    /**
+     * Builds the scroll positions and widths.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vvalues = new double[POSITIONS];
+        widths = new double[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++) {
+            vvalues[i] = random.nextDouble();
+            widths[i] = 100 + random.nextDouble() * 2000;
+        }
+    }
+
+    /**
+     * Computes the number of cells per row for a sweep of widths, as handleResize does.
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public void cellsPerRow(Blackhole blackhole) {
+        for (double width : widths) {
+            blackhole.consume(ListLayout.cellsPerRow(width, 200, 12));
+        }
+    }
+
+    /**
+     * Computes the visible rows for a scroll position, as updateCells does.
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public void visibleRange(Blackhole blackhole) {
+        int rowCount = ListLayout.rowCount(size, cellsPerRow);
+        double contentHeight = rowCount * CELL_HEIGHT;
+        for (double vvalue : vvalues) {
+            int first = ListLayout.firstVisibleRow(vvalue, contentHeight, VIEWPORT_HEIGHT, CELL_HEIGHT);
+            blackhole.consume(first);
+            blackhole.consume(ListLayout.lastVisibleRow(first, VIEWPORT_HEIGHT, CELL_HEIGHT, rowCount));
+        }
+    }
+
+    /**
+     * Computes the visible rows and the position of every visible cell for a scroll position, as updateCells does.
+     * @param blackhole the blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public void cellPlacement(Blackhole blackhole) {
+        int rowCount = ListLayout.rowCount(size, cellsPerRow);
+        double contentHeight = rowCount * CELL_HEIGHT;
+        double cellWidth = (VIEWPORT_WIDTH - LEFT_GAP) / cellsPerRow;
+        for (double vvalue : vvalues) {
+            int first = ListLayout.firstVisibleRow(vvalue, contentHeight, VIEWPORT_HEIGHT, CELL_HEIGHT);
+            int last = ListLayout.lastVisibleRow(first, VIEWPORT_HEIGHT, CELL_HEIGHT, rowCount);
+            int end = Math.min(last * cellsPerRow, size);
+            for (int index = first * cellsPerRow; index < end; index++) {
+                blackhole.consume(ListLayout.cellX(index, cellsPerRow, cellWidth, LEFT_GAP));
+                blackhole.consume(ListLayout.cellY(index, cellsPerRow, CELL_HEIGHT));
+            }
+        }
+    }
+}
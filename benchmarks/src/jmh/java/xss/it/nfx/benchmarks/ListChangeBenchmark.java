@@ -0,0 +1,134 @@
+package xss.it.nfx.benchmarks;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xss.it.nfx.list.NfxListView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ListChangeBenchmark {
+    /**
+     * The number of changes made per invocation, so the hop to the FX thread is amortized.
+     */
+    private static final int BATCH = 100;
+
+    /**
+     * The number of items.
+     */
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    /**
+     * The items of the list view.
+     */
+    private ObservableList<String> items;
+
+    /**
+     * The items inserted and removed again.
+     */
+    private String[] inserted;
+
+    /**
+     * The items set over the visible items.
+     */
+    private String[] replacements;
+
+    /**
+     * The list view, laid out in a scene that is never shown.
+     */
+    private NfxListView<String> listView;
+
+    /**
+     * Starts the JavaFX runtime and lays out a list view over the items.
+     */
+    @Setup
+    public void setUp() {
+        Fx.start();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add("item " + i);
+        }
+        inserted = new String[BATCH];
+        replacements = new String[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            inserted[i] = "inserted " + i;
+            replacements[i] = "replacement " + i;
+        }
+        Fx.run(() -> {
+            items = FXCollections.observableArrayList(values);
+            listView = new NfxListView<>();
+            listView.setItems(items);
+            StackPane root = new StackPane(listView);
+            new Scene(root, 400, 800);
+            root.applyCss();
+            root.layout();
+        });
+    }
+
+    /**
+     * Inserts an item above the visible items and removes it again.
+     * @return the number of items
+     */
+    @Benchmark
+    @OperationsPerInvocation(2 * BATCH)
+    public int insertAndRemoveVisible() {
+        Fx.run(() -> {
+            for (String item : inserted) {
+                items.add(0, item);
+                items.remove(0);
+            }
+        });
+        return items.size();
+    }
+
+    /**
+     * Replaces visible items.
+     * @return the number of items
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int replaceVisible() {
+        Fx.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                items.set(i % 10, replacements[i]);
+            }
+        });
+        return items.size();
+    }
+
+    /**
+     * Appends an item below the visible items and removes it again.
+     * @return the number of items
+     */
+    @Benchmark
+    @OperationsPerInvocation(2 * BATCH)
+    public int appendAndRemoveOffscreen() {
+        Fx.run(() -> {
+            for (String item : inserted) {
+                items.add(item);
+                items.remove(items.size() - 1);
+            }
+        });
+        return items.size();
+    }
+}
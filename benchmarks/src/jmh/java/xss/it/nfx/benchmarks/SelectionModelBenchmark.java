@@ -0,0 +1,123 @@
+package xss.it.nfx.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import xss.it.nfx.list.misc.SelectionModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SelectionModelBenchmark {
+    /**
+     * The number of items.
+     */
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    /**
+     * The items.
+     */
+    private List<Integer> items;
+
+    /**
+     * A multiple selection holding every tenth item.
+     */
+    private SelectionModel<Integer> partial;
+
+    /**
+     * A multiple selection replaced by every item on each call.
+     */
+    private SelectionModel<Integer> bulk;
+
+    /**
+     * A single selection.
+     */
+    private SelectionModel<Integer> single;
+
+    /**
+     * An item that is not in the partial selection, so lookups scan all of it.
+     */
+    private Integer unselected;
+
+    /**
+     * The index of the next item selected in the single selection.
+     */
+    private int next = 0;
+
+    /**
+     * Builds the items and the selections.
+     */
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(size);
+        List<Integer> tenth = new ArrayList<>(size / 10);
+        for (int i = 0; i < size; i++) {
+            items.add(i);
+            if (i % 10 == 0) {
+                tenth.add(i);
+            }
+        }
+        partial = new SelectionModel<>();
+        partial.setSelectionMode(SelectionModel.Mode.MULTIPLE);
+        partial.select(tenth);
+        bulk = new SelectionModel<>();
+        bulk.setSelectionMode(SelectionModel.Mode.MULTIPLE);
+        single = new SelectionModel<>();
+        unselected = items.get(size - 1);
+    }
+
+    /**
+     * Replaces the selection with every item.
+     * @return the selected items
+     */
+    @Benchmark
+    public int selectAll() {
+        bulk.select(items);
+        return bulk.getSelectedItems().size();
+    }
+
+    /**
+     * Moves a single selection to the next item.
+     * @return the selected items
+     */
+    @Benchmark
+    public int selectSingle() {
+        single.select(items.get(next));
+        next = (next + 1) % size;
+        return single.getSelectedItems().size();
+    }
+
+    /**
+     * Looks up an item that is not selected in a selection of a tenth of the items.
+     * @return whether the item is selected
+     */
+    @Benchmark
+    public boolean isSelectedMiss() {
+        return partial.isSelected(unselected);
+    }
+
+    /**
+     * Adds an item to a selection of a tenth of the items and removes it again.
+     * @return the selected items
+     */
+    @Benchmark
+    public int toggleInLargeSelection() {
+        partial.select(unselected);
+        partial.unselect(unselected);
+        return partial.getSelectedItems().size();
+    }
+}
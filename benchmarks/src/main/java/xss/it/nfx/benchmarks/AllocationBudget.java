@@ -0,0 +1,159 @@
+package xss.it.nfx.benchmarks;
+
+import com.sun.management.ThreadMXBean;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import xss.it.nfx.list.NfxCell;
+import xss.it.nfx.list.NfxListView;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class AllocationBudget {
+    /**
+     * The default number of items.
+     */
+    private static final int DEFAULT_SIZE = 100_000;
+
+    /**
+     * The default budget in bytes allocated per scrolled frame.
+     */
+    private static final long DEFAULT_BUDGET = 4_096;
+
+    /**
+     * The number of frames scrolled before measuring, so the code on the hot path is compiled and pools are full.
+     */
+    private static final int WARMUP_FRAMES = 1_000;
+
+    /**
+     * The number of frames measured.
+     */
+    private static final int MEASURED_FRAMES = 1_000;
+
+    /**
+     * The distance scrolled per frame, in pixels.
+     */
+    private static final double SCROLL_DELTA = 40;
+
+    /**
+     * The width of the window.
+     */
+    private static final double WIDTH = 800;
+
+    /**
+     * The height of the window.
+     */
+    private static final double HEIGHT = 600;
+
+    /**
+     * The allocation counters of the JVM threads.
+     */
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Not instantiable.
+     */
+    private AllocationBudget() {
+    }
+
+    /**
+     * Scrolls a list view one step per pulse and fails if the bytes allocated per frame exceed the budget.
+     * Only the FX thread is measured, from the scroll step to the end of the layout pass, so rendering and
+     * background threads are not counted. Cells show no text, so text layout does not hide the list view's own allocations.
+     * Run headless with {@code -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw}.
+     * @param args the budget in bytes per frame, 4 KiB by default, and the number of items, 100k by default
+     */
+    public static void main(String[] args) {
+        long budget = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_BUDGET;
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SIZE;
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("Thread allocation accounting is not supported by this JVM");
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        Fx.start();
+
+        NfxListView<String> listView = new NfxListView<>();
+        Stage[] stage = new Stage[1];
+        ScrollPane[] scrollPane = new ScrollPane[1];
+        Fx.run(() -> {
+            listView.setCellFactory(view -> new NfxCell<>(view) {
+            });
+            listView.setItems(FXCollections.observableArrayList(Workloads.strings(size)));
+            stage[0] = new Stage();
+            stage[0].setScene(new Scene(new StackPane(listView), WIDTH, HEIGHT));
+            stage[0].show();
+            scrollPane[0] = (ScrollPane) listView.lookup(".scroll-pane");
+        });
+
+        scroll(scrollPane[0], WARMUP_FRAMES);
+        long[] measured = scroll(scrollPane[0], MEASURED_FRAMES);
+        Fx.run(() -> stage[0].close());
+        Platform.exit();
+
+        double perFrame = (double) measured[0] / MEASURED_FRAMES;
+        System.out.printf(Locale.ROOT, "%d frames, %.0f bytes/frame, max %d bytes, budget %d bytes/frame%n",
+                MEASURED_FRAMES, perFrame, measured[1], budget);
+        if (perFrame > budget) {
+            System.err.printf(Locale.ROOT, "Allocation budget exceeded: %.0f > %d bytes/frame%n", perFrame, budget);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Scrolls down one step per pulse, wrapping to the top at the bottom, and measures the FX thread allocations.
+     * @param scrollPane the scroll pane of the list view
+     * @param frames the number of frames
+     * @return the bytes allocated over every frame and the most bytes allocated by one frame
+     */
+    private static long[] scroll(ScrollPane scrollPane, int frames) {
+        long[] measured = new long[2];
+        long[] frameStart = {-1};
+        int[] frame = {0};
+        CountDownLatch done = new CountDownLatch(1);
+        Runnable postLayout = () -> {
+            if (frameStart[0] >= 0) {
+                long allocated = THREADS.getCurrentThreadAllocatedBytes() - frameStart[0];
+                measured[0] += allocated;
+                measured[1] = Math.max(measured[1], allocated);
+                frameStart[0] = -1;
+            }
+        };
+        AnimationTimer timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (frame[0]++ == frames) {
+                    stop();
+                    scrollPane.getScene().removePostLayoutPulseListener(postLayout);
+                    done.countDown();
+                    return;
+                }
+                frameStart[0] = THREADS.getCurrentThreadAllocatedBytes();
+                double range = scrollPane.getContent().getLayoutBounds().getHeight() - scrollPane.getViewportBounds().getHeight();
+                double vvalue = scrollPane.getVvalue() + SCROLL_DELTA / Math.max(1, range);
+                scrollPane.setVvalue(vvalue > 1 ? 0 : vvalue);
+            }
+        };
+        Fx.run(() -> {
+            scrollPane.getScene().addPostLayoutPulseListener(postLayout);
+            timer.start();
+        });
+        try {
+            done.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scrolling", e);
+        }
+        return measured;
+    }
+}
@@ -0,0 +1,176 @@
+package xss.it.nfx.benchmarks;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.util.Callback;
+import org.openjdk.jol.info.GraphStats;
+import xss.it.demo.controller.NfxListController;
+import xss.it.nfx.list.NfxCell;
+import xss.it.nfx.list.NfxListView;
+import xss.it.nfx.list.misc.SelectionModel;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class Footprint {
+    /**
+     * The numbers of items measured.
+     */
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    /**
+     * The width of the scene.
+     */
+    private static final double WIDTH = 800;
+
+    /**
+     * The height of the scene the items are measured in.
+     */
+    private static final double HEIGHT = 600;
+
+    /**
+     * The height of the scene the cells are measured in, taller so the list view holds more cells.
+     */
+    private static final double TALL_HEIGHT = 2_400;
+
+    /**
+     * The number of layout passes run before measuring, the scroll bars may appear after the first one.
+     */
+    private static final int LAYOUT_PASSES = 3;
+
+    /**
+     * Not instantiable.
+     */
+    private Footprint() {
+    }
+
+    /**
+     * Measures the heap retained by list views of the default, the demo and a bare cell factory, and prints one line per size.
+     * The retained size is the size of every object reachable from the list view, minus the objects reachable from its items,
+     * so the items themselves are not counted, the observable list holding them is. It is printed as the growth over an empty
+     * list view, which cancels the styles and classes reachable from any node. Run headless with
+     * {@code -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw -Djdk.attach.allowAttachSelf -Djol.magicFieldOffset=true}.
+     * @param args the cell factories to measure, among default, demo and bare, all of them by default
+     */
+    public static void main(String[] args) {
+        List<String> factories = args.length > 0 ? List.of(args) : List.of("default", "demo", "bare");
+        Fx.start();
+        try {
+            run(factories);
+        }
+        finally {
+            Platform.exit();
+        }
+    }
+
+    /**
+     * Measures cell factories and prints one line per size.
+     * @param factories the names of the cell factories
+     */
+    private static void run(List<String> factories) {
+        System.out.printf(Locale.ROOT, "%-8s %9s %6s %12s %11s %15s %11s%n",
+                "factory", "items", "cells", "retained", "bytes/item", "bytes/selected", "bytes/cell");
+        for (String factory : factories) {
+            switch (factory) {
+                case "default" -> measure(factory, Workloads::strings, null, null);
+                case "demo" -> measure(factory, Workloads::people, Workloads.demoCellFactory(), NfxListController.load("/style.css").toExternalForm());
+                case "bare" -> measure(factory, Workloads::strings, view -> new NfxCell<>(view) {
+                }, null);
+                default -> throw new IllegalArgumentException("Unknown cell factory: " + factory);
+            }
+        }
+    }
+
+    /**
+     * Measures a cell factory at every size.
+     * The cost of an item is the growth of the retained size from a list as short as the viewport,
+     * with the same cells, to the full list. The cost of a selected item is the growth when every item is selected,
+     * and the cost of a cell is the growth when the viewport gets taller and the list view builds more cells.
+     * @param name the name of the cell factory
+     * @param items the items of a given size
+     * @param cellFactory the cell factory, null for the default one
+     * @param stylesheet the stylesheet of the scene, or null
+     * @param <T> the type of the items
+     */
+    private static <T> void measure(String name, IntFunction<List<T>> items, Callback<NfxListView<T>, NfxCell<T>> cellFactory, String stylesheet) {
+        Sample empty = sample(items.apply(0), cellFactory, stylesheet, HEIGHT, false);
+        Sample base = sample(items.apply(SIZES[0]), cellFactory, stylesheet, HEIGHT, false);
+        Sample tall = sample(items.apply(SIZES[0]), cellFactory, stylesheet, TALL_HEIGHT, false);
+        Sample viewport = sample(items.apply(base.cells), cellFactory, stylesheet, HEIGHT, false);
+        double perCell = (double) (tall.retained - base.retained) / (tall.cells - base.cells);
+
+        for (int size : SIZES) {
+            List<T> list = items.apply(size);
+            Sample unselected = sample(list, cellFactory, stylesheet, HEIGHT, false);
+            Sample selected = sample(list, cellFactory, stylesheet, HEIGHT, true);
+            System.out.printf(Locale.ROOT, "%-8s %9d %6d %12d %11.1f %15.1f %11.0f%n",
+                    name, size, unselected.cells, unselected.retained - empty.retained,
+                    (double) (unselected.retained - viewport.retained) / (size - viewport.cells),
+                    (double) (selected.retained - unselected.retained) / size,
+                    perCell);
+        }
+    }
+
+    /**
+     * Lays out a list view over items in a scene without a window, then measures the heap it retains.
+     * No window is shown, so the retained size does not depend on the buffers of the renderer.
+     * @param items the items
+     * @param cellFactory the cell factory, null for the default one
+     * @param stylesheet the stylesheet of the scene, or null
+     * @param height the height of the scene
+     * @param selectAll whether every item is selected
+     * @param <T> the type of the items
+     * @return the retained size and the number of cells
+     */
+    private static <T> Sample sample(List<T> items, Callback<NfxListView<T>, NfxCell<T>> cellFactory, String stylesheet, double height, boolean selectAll) {
+        NfxListView<T> listView = new NfxListView<>();
+        Fx.run(() -> {
+            if (cellFactory != null) {
+                listView.setCellFactory(cellFactory);
+            }
+            listView.setItems(FXCollections.observableArrayList(items));
+            if (selectAll) {
+                listView.getSelectionModel().setSelectionMode(SelectionModel.Mode.MULTIPLE);
+                listView.getSelectionModel().select(listView.getItems());
+            }
+            Scene scene = new Scene(new StackPane(listView), WIDTH, height);
+            if (stylesheet != null) {
+                scene.getStylesheets().add(stylesheet);
+            }
+            layout(scene);
+        });
+        Sample[] sample = new Sample[1];
+        Fx.run(() -> {
+            layout(listView.getScene());
+            long retained = GraphStats.parseInstance(listView).totalSize() - GraphStats.parseInstance(items.toArray()).totalSize();
+            sample[0] = new Sample(retained, listView.getStatistics().liveCells());
+        });
+        return sample[0];
+    }
+
+    /**
+     * Applies the styles and lays out a scene until its size settles, as a pulse would.
+     * @param scene the scene
+     */
+    private static void layout(Scene scene) {
+        for (int i = 0; i < LAYOUT_PASSES; i++) {
+            scene.getRoot().applyCss();
+            scene.getRoot().layout();
+        }
+    }
+
+    /**
+     * The heap retained by a list view.
+     * @param retained the retained size, in bytes
+     * @param cells the number of cells held, bound or pooled
+     */
+    private record Sample(long retained, int cells) {
+    }
+}
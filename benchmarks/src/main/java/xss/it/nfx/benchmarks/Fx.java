@@ -0,0 +1,78 @@
+package xss.it.nfx.benchmarks;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+final class Fx {
+    /**
+     * Whether the JavaFX runtime was started by this process.
+     */
+    private static final AtomicBoolean STARTED = new AtomicBoolean(false);
+
+    /**
+     * Not instantiable.
+     */
+    private Fx() {
+    }
+
+    /**
+     * Starts the JavaFX runtime once per process, keeping it alive when no window is showing.
+     */
+    static void start() {
+        if (STARTED.compareAndSet(false, true)) {
+            CountDownLatch latch = new CountDownLatch(1);
+            Platform.startup(latch::countDown);
+            Platform.setImplicitExit(false);
+            await(latch);
+        }
+    }
+
+    /**
+     * Runs an action on the FX thread and waits for it to complete.
+     * @param action the action to run
+     */
+    static void run(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            }
+            catch (Throwable t) {
+                failure.set(t);
+            }
+            finally {
+                latch.countDown();
+            }
+        });
+        await(latch);
+        if (failure.get() != null) {
+            throw new IllegalStateException("Action failed on the FX thread", failure.get());
+        }
+    }
+
+    /**
+     * Waits for a latch, restoring the interrupt flag if interrupted.
+     * @param latch the latch
+     */
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the FX thread", e);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package xss.it.nfx.benchmarks;
+
+import javafx.application.Platform;
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import javafx.util.Callback;
+import xss.it.nfx.list.NfxCell;
+import xss.it.nfx.list.NfxCellPool;
+import xss.it.nfx.list.NfxListView;
+import xss.it.nfx.list.misc.SelectionModel;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class LeakSoak {
+    /**
+     * The default number of rounds.
+     */
+    private static final int DEFAULT_ROUNDS = 1_000;
+
+    /**
+     * The number of rounds between two collectability checks.
+     */
+    private static final int CHECK_INTERVAL = 100;
+
+    /**
+     * The number of items of every list.
+     */
+    private static final int SIZE = 1_000;
+
+    /**
+     * The number of garbage collections tried before an object is reported as leaked.
+     */
+    private static final int GC_ATTEMPTS = 20;
+
+    /**
+     * The time waited between two garbage collections, in milliseconds, so the fade transitions
+     * holding the nodes they animate can finish.
+     */
+    private static final long GC_INTERVAL = 100;
+
+    /**
+     * The width of the window.
+     */
+    private static final double WIDTH = 800;
+
+    /**
+     * The height of the window.
+     */
+    private static final double HEIGHT = 600;
+
+    /**
+     * The height a list view is shrunk to, so most of its cells go idle.
+     */
+    private static final double SHRUNK_HEIGHT = 100;
+
+    /**
+     * The items shared by every short-lived list view, outliving all of them as a long-lived model would.
+     */
+    private final ObservableList<StringProperty> sharedItems = FXCollections.observableArrayList(
+            item -> new Observable[]{item}
+    );
+
+    /**
+     * The long-lived list view whose items, cell factory and scene are swapped.
+     */
+    private final NfxListView<String> listView = new NfxListView<>();
+
+    /**
+     * The window the scenes are swapped in.
+     */
+    private final Stage stage = new Stage();
+
+    /**
+     * The item lists replaced on the long-lived list view.
+     */
+    private final Probes replacedItems = new Probes("item lists");
+
+    /**
+     * The cells built by replaced cell factories.
+     */
+    private final Probes replacedCells = new Probes("cells of replaced factories");
+
+    /**
+     * The scenes the long-lived list view left.
+     */
+    private final Probes replacedScenes = new Probes("scenes");
+
+    /**
+     * The short-lived list views over the shared items, after they left their scene.
+     */
+    private final Probes droppedListViews = new Probes("list views over shared items");
+
+    /**
+     * The cells built by the current cell factory.
+     */
+    private List<WeakReference<NfxCell<String>>> currentCells = new ArrayList<>();
+
+    /**
+     * The source of the scroll positions.
+     */
+    private final Random random = new Random(42);
+
+    /**
+     * The failures found by the checks.
+     */
+    private final List<String> failures = new ArrayList<>();
+
+    /**
+     * Constructs a LeakSoak.
+     */
+    private LeakSoak() {
+        for (int i = 0; i < SIZE; i++) {
+            sharedItems.add(new SimpleStringProperty("shared " + i));
+        }
+    }
+
+    /**
+     * Swaps the items, the cell factory and the scene of a list view for a number of rounds, and builds and drops
+     * list views over shared items, then fails if any replaced object is still reachable.
+     * Cells show no text, so the run only depends on the list view. Run headless with
+     * {@code -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw}.
+     * @param args the number of rounds, 1000 by default
+     */
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        Fx.start();
+        List<String> failures;
+        try {
+            LeakSoak[] soak = new LeakSoak[1];
+            Fx.run(() -> {
+                soak[0] = new LeakSoak();
+                soak[0].show();
+            });
+            failures = soak[0].run(rounds);
+        }
+        finally {
+            Platform.exit();
+        }
+        if (!failures.isEmpty()) {
+            failures.forEach(System.err::println);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Shows the long-lived list view in the window.
+     */
+    private void show() {
+        listView.setItems(FXCollections.observableArrayList(Workloads.strings(SIZE)));
+        listView.setCellFactory(cellFactory());
+        stage.setScene(new Scene(new StackPane(listView), WIDTH, HEIGHT));
+        stage.show();
+    }
+
+    /**
+     * Runs the rounds, checking that the replaced objects are collectable at regular intervals.
+     * @param rounds the number of rounds
+     * @return the failures
+     */
+    private List<String> run(int rounds) {
+        System.out.printf(Locale.ROOT, "%7s %10s %6s %7s %7s %11s %9s%n",
+                "round", "item lists", "cells", "scenes", "views", "live cells", "heap MB");
+        for (int round = 1; round <= rounds; round++) {
+            int current = round;
+            Fx.run(() -> round(current));
+            if (round % CHECK_INTERVAL == 0 || round == rounds) {
+                check(round);
+            }
+        }
+        Fx.run(stage::close);
+        return failures;
+    }
+
+    /**
+     * Runs one round on the FX thread.
+     * @param round the round number
+     */
+    private void round(int round) {
+        ObservableList<String> items = listView.getItems();
+        listView.setItems(FXCollections.observableArrayList(Workloads.strings(SIZE)));
+        replacedItems.add(items);
+
+        if (round % 2 == 0) {
+            for (WeakReference<NfxCell<String>> cell : currentCells) {
+                replacedCells.add(cell.get());
+            }
+            currentCells = new ArrayList<>();
+            listView.setCellFactory(cellFactory());
+        }
+
+        Scene scene = stage.getScene();
+        stage.setScene(new Scene(new StackPane(listView), WIDTH, HEIGHT));
+        replacedScenes.add(scene);
+        checkKeyFilters(scene, round);
+
+        NfxListView<StringProperty> shortLived = new NfxListView<>();
+        shortLived.setItemIndexing(true);
+        shortLived.setExtractor(item -> new Observable[]{item});
+        shortLived.setCellPool(new NfxCellPool<>(SIZE));
+        shortLived.setCellFactory(view -> new NfxCell<>(view) {
+        });
+        shortLived.setItems(sharedItems);
+        StackPane root = (StackPane) stage.getScene().getRoot();
+        root.getChildren().add(shortLived);
+        scroll(listView);
+        scroll(shortLived);
+        checkPooledFactory(shortLived, round);
+        sharedItems.get(random.nextInt(SIZE)).set("updated " + round);
+        root.getChildren().remove(shortLived);
+        droppedListViews.add(shortLived);
+    }
+
+    /**
+     * Scrolls a list view to a random position and lays out its scene.
+     * @param view the list view
+     */
+    private void scroll(NfxListView<?> view) {
+        view.getScene().getRoot().applyCss();
+        view.getScene().getRoot().layout();
+        ((ScrollPane) view.lookup(".scroll-pane")).setVvalue(random.nextDouble());
+        view.getScene().getRoot().layout();
+    }
+
+    /**
+     * Shrinks a list view backed by a shared cell pool so the cells of its factory go idle in the pool,
+     * swaps the factory and grows the view back, then checks that every cell shown was built by the new factory.
+     * @param view the list view
+     * @param round the round number
+     */
+    private void checkPooledFactory(NfxListView<StringProperty> view, int round) {
+        view.setMaxHeight(SHRUNK_HEIGHT);
+        scroll(view);
+        Set<Node> built = Collections.newSetFromMap(new IdentityHashMap<>());
+        view.setCellFactory(v -> {
+            NfxCell<StringProperty> cell = new NfxCell<>(v) {
+            };
+            built.add(cell);
+            return cell;
+        });
+        view.setMaxHeight(Double.MAX_VALUE);
+        scroll(view);
+        for (Node cell : view.lookupAll(".nfx-cell")) {
+            if (!built.contains(cell)) {
+                failures.add("Round " + round + ": a cell of the previous factory was rebound from the shared pool");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks that the control key only switches the selection mode through the current scene of the list view.
+     * @param previous the scene the list view left
+     * @param round the round number
+     */
+    private void checkKeyFilters(Scene previous, int round) {
+        Event.fireEvent(previous, key(KeyEvent.KEY_PRESSED));
+        if (listView.getSelectionMode() != SelectionModel.Mode.SINGLE) {
+            failures.add("Round " + round + ": a previous scene still switches the selection mode");
+            Event.fireEvent(previous, key(KeyEvent.KEY_RELEASED));
+        }
+        Event.fireEvent(stage.getScene(), key(KeyEvent.KEY_PRESSED));
+        if (listView.getSelectionMode() != SelectionModel.Mode.MULTIPLE) {
+            failures.add("Round " + round + ": the current scene does not switch the selection mode");
+        }
+        Event.fireEvent(stage.getScene(), key(KeyEvent.KEY_RELEASED));
+    }
+
+    /**
+     * Runs garbage collections until every replaced object is collected, then records the objects still reachable.
+     * @param round the round number
+     */
+    private void check(int round) {
+        Probes[] probes = {replacedItems, replacedCells, replacedScenes, droppedListViews};
+        for (int attempt = 0; attempt < GC_ATTEMPTS && live(probes) > 0; attempt++) {
+            System.gc();
+            sleep(GC_INTERVAL);
+        }
+        long liveCells = currentCells.stream().filter(cell -> cell.get() != null).count();
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        System.out.printf(Locale.ROOT, "%7d %10d %6d %7d %7d %11d %9.1f%n",
+                round, replacedItems.live(), replacedCells.live(), replacedScenes.live(), droppedListViews.live(),
+                liveCells, heap / 1e6);
+        for (Probes probe : probes) {
+            if (probe.live() > 0) {
+                failures.add("Round " + round + ": " + probe.live() + " " + probe.kind + " still reachable");
+            }
+        }
+    }
+
+    /**
+     * Sleeps, restoring the interrupt flag if interrupted.
+     * @param millis the time to sleep, in milliseconds
+     */
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the garbage collector", e);
+        }
+    }
+
+    /**
+     * Returns the number of probed objects still reachable.
+     * @param probes the probes
+     * @return the number of reachable objects
+     */
+    private static int live(Probes[] probes) {
+        int live = 0;
+        for (Probes probe : probes) {
+            live += probe.live();
+        }
+        return live;
+    }
+
+    /**
+     * Returns a cell factory recording the cells it builds in the current cells.
+     * @return the cell factory
+     */
+    private Callback<NfxListView<String>, NfxCell<String>> cellFactory() {
+        return view -> {
+            NfxCell<String> cell = new NfxCell<>(view) {
+            };
+            currentCells.add(new WeakReference<>(cell));
+            return cell;
+        };
+    }
+
+    /**
+     * Returns a control key event.
+     * @param type the event type
+     * @return the key event
+     */
+    private static KeyEvent key(EventType<KeyEvent> type) {
+        return new KeyEvent(type, "", "", KeyCode.CONTROL, false, true, false, false);
+    }
+
+    /**
+     * Weak references to objects that should become unreachable.
+     */
+    private static final class Probes {
+        /**
+         * The kind of objects, as reported.
+         */
+        private final String kind;
+
+        /**
+         * The references to the objects.
+         */
+        private final List<WeakReference<Object>> references = new ArrayList<>();
+
+        /**
+         * Constructs a Probes.
+         * @param kind the kind of objects
+         */
+        private Probes(String kind) {
+            this.kind = kind;
+        }
+
+        /**
+         * Probes an object.
+         * @param object the object, ignored if null
+         */
+        private void add(Object object) {
+            if (object != null) {
+                references.add(new WeakReference<>(object));
+            }
+        }
+
+        /**
+         * Returns the number of probed objects still reachable, forgetting the collected ones.
+         * @return the number of reachable objects
+         */
+        private int live() {
+            references.removeIf(reference -> reference.get() == null);
+            return references.size();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package xss.it.nfx.benchmarks;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.event.Event;
+import javafx.geometry.Orientation;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.StackPane;
+import javafx.scene.input.ScrollEvent;
+import javafx.stage.Stage;
+import javafx.util.Callback;
+import xss.it.demo.controller.NfxListController;
+import xss.it.nfx.list.NfxCell;
+import xss.it.nfx.list.NfxListView;
+import xss.it.nfx.list.monitor.NfxJankMonitor;
+import xss.it.nfx.list.monitor.NfxListStatistics;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntConsumer;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class ScrollThroughput {
+    /**
+     * The default number of items.
+     */
+    private static final int DEFAULT_SIZE = 1_000_000;
+
+    /**
+     * The number of mouse wheel ticks scrolled.
+     */
+    private static final int WHEEL_TICKS = 600;
+
+    /**
+     * The vertical distance of a mouse wheel tick, as reported by desktop platforms.
+     */
+    private static final double WHEEL_DELTA = 40;
+
+    /**
+     * The number of jumps to a random scroll bar position.
+     */
+    private static final int SCROLL_BAR_JUMPS = 300;
+
+    /**
+     * The number of scrolls to a random item.
+     */
+    private static final int SCROLLS_TO_ITEM = 300;
+
+    /**
+     * The number of pulses waited for the list view to settle before each phase.
+     */
+    private static final int SETTLE_PULSES = 30;
+
+    /**
+     * The width of the window.
+     */
+    private static final double WIDTH = 800;
+
+    /**
+     * The height of the window.
+     */
+    private static final double HEIGHT = 600;
+
+    /**
+     * Not instantiable.
+     */
+    private ScrollThroughput() {
+    }
+
+    /**
+     * Runs the scripted scrolling for the default and the demo cell factories and prints one line per phase.
+     * Run headless with {@code -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw}.
+     * @param args the number of items, 1M by default
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        Fx.start();
+        System.out.printf(Locale.ROOT, "%-8s %-13s %7s %8s %8s %8s %14s%n",
+                "factory", "phase", "frames", "fps", "p50 ms", "p99 ms", "cells built/s");
+        run("default", Workloads.strings(size), null, null);
+        run("demo", Workloads.people(size), Workloads.demoCellFactory(), NfxListController.load("/style.css").toExternalForm());
+        Platform.exit();
+    }
+
+    /**
+     * Shows a list view over the items and runs every scrolling phase.
+     * @param name the name of the cell factory
+     * @param items the items
+     * @param cellFactory the cell factory, null for the default one
+     * @param stylesheet the stylesheet of the scene, or null
+     * @param <T> the type of the items
+     */
+    private static <T> void run(String name, List<T> items, Callback<NfxListView<T>, NfxCell<T>> cellFactory, String stylesheet) {
+        NfxListView<T> listView = new NfxListView<>();
+        Stage[] stage = new Stage[1];
+        Fx.run(() -> {
+            if (cellFactory != null) {
+                listView.setCellFactory(cellFactory);
+            }
+            listView.setItems(FXCollections.observableArrayList(items));
+            Scene scene = new Scene(new StackPane(listView), WIDTH, HEIGHT);
+            if (stylesheet != null) {
+                scene.getStylesheets().add(stylesheet);
+            }
+            stage[0] = new Stage();
+            stage[0].setScene(scene);
+            stage[0].show();
+        });
+
+        Random random = new Random(42);
+        Node viewport = lookup(listView, ".viewport");
+        phase(name, "wheel", listView, WHEEL_TICKS, step -> wheel(viewport));
+        ScrollBar scrollBar = verticalScrollBar(listView);
+        phase(name, "scroll bar", listView, SCROLL_BAR_JUMPS, step -> scrollBar.setValue(random.nextDouble() * scrollBar.getMax()));
+        phase(name, "scrollToItem", listView, SCROLLS_TO_ITEM, step -> listView.scrollToItem(items.get(random.nextInt(items.size()))));
+
+        Fx.run(() -> stage[0].close());
+    }
+
+    /**
+     * Runs one step per pulse and prints the frame rate, the frame time percentiles and the cell creation rate.
+     * @param name the name of the cell factory
+     * @param phase the name of the phase
+     * @param listView the list view
+     * @param steps the number of steps
+     * @param step the step, called on the FX thread at the start of a pulse
+     */
+    private static void phase(String name, String phase, NfxListView<?> listView, int steps, IntConsumer step) {
+        NfxJankMonitor monitor = new NfxJankMonitor(listView, steps);
+        NfxListStatistics[] statistics = new NfxListStatistics[2];
+        long[] span = new long[2];
+        CountDownLatch done = new CountDownLatch(1);
+        AnimationTimer timer = new AnimationTimer() {
+            /**
+             * The number of pulses seen.
+             */
+            private int pulse = 0;
+
+            @Override
+            public void handle(long now) {
+                int index = pulse++ - SETTLE_PULSES;
+                if (index < 0) {
+                    return;
+                }
+                if (index == 0) {
+                    span[0] = now;
+                    statistics[0] = listView.getStatistics();
+                    monitor.start();
+                }
+                if (index < steps) {
+                    step.accept(index);
+                    return;
+                }
+                span[1] = now;
+                statistics[1] = listView.getStatistics();
+                monitor.stop();
+                stop();
+                done.countDown();
+            }
+        };
+        Fx.run(timer::start);
+        try {
+            done.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during " + phase, e);
+        }
+
+        double seconds = (span[1] - span[0]) / 1e9;
+        Fx.run(() -> System.out.printf(Locale.ROOT, "%-8s %-13s %7d %8.1f %8.2f %8.2f %14.1f%n",
+                name,
+                phase,
+                monitor.getFrameCount(),
+                steps / seconds,
+                monitor.getPercentile(50).toMillis(),
+                monitor.getPercentile(99).toMillis(),
+                (statistics[1].cellsCreated() - statistics[0].cellsCreated()) / seconds
+        ));
+    }
+
+    /**
+     * Scrolls one mouse wheel tick down over the center of a node.
+     * The event is fired rather than posted through the glass robot, whose headless wheel ticks only move one pixel.
+     * @param node the node
+     */
+    private static void wheel(Node node) {
+        Point2D center = node.localToScene(node.getLayoutBounds().getCenterX(), node.getLayoutBounds().getCenterY());
+        Point2D screen = node.localToScreen(node.getLayoutBounds().getCenterX(), node.getLayoutBounds().getCenterY());
+        Event.fireEvent(node, new ScrollEvent(
+                ScrollEvent.SCROLL,
+                center.getX(), center.getY(), screen.getX(), screen.getY(),
+                false, false, false, false, false, false,
+                0, -WHEEL_DELTA, 0, -WHEEL_DELTA,
+                ScrollEvent.HorizontalTextScrollUnits.NONE, 0,
+                ScrollEvent.VerticalTextScrollUnits.LINES, -3,
+                0, null
+        ));
+    }
+
+    /**
+     * Looks up a node of a list view.
+     * @param listView the list view
+     * @param selector the CSS selector of the node
+     * @return the node
+     */
+    private static Node lookup(NfxListView<?> listView, String selector) {
+        Node[] node = new Node[1];
+        Fx.run(() -> node[0] = listView.lookup(selector));
+        if (node[0] == null) {
+            throw new IllegalStateException("The list view has no " + selector);
+        }
+        return node[0];
+    }
+
+    /**
+     * Returns the vertical scroll bar of a list view.
+     * @param listView the list view
+     * @return the vertical scroll bar
+     */
+    private static ScrollBar verticalScrollBar(NfxListView<?> listView) {
+        ScrollBar[] scrollBar = new ScrollBar[1];
+        Fx.run(() -> {
+            for (Node node : listView.lookupAll(".scroll-bar")) {
+                if (node instanceof ScrollBar bar && bar.getOrientation() == Orientation.VERTICAL) {
+                    scrollBar[0] = bar;
+                }
+            }
+        });
+        if (scrollBar[0] == null) {
+            throw new IllegalStateException("The list view has no vertical scroll bar");
+        }
+        return scrollBar[0];
+    }
+}
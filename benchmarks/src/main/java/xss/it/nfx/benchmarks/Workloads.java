@@ -0,0 +1,88 @@
+package xss.it.nfx.benchmarks;
+
+import javafx.util.Callback;
+import xss.it.demo.controller.CellFactory;
+import xss.it.demo.data.entity.Person;
+import xss.it.nfx.list.NfxCell;
+import xss.it.nfx.list.NfxListView;
+import xss.it.nfx.list.NfxTwoPhaseCell;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+final class Workloads {
+    /**
+     * Not instantiable.
+     */
+    private Workloads() {
+    }
+
+    /**
+     * Returns distinct strings, shown by the default cell factory.
+     * @param size the number of items
+     * @return the items
+     */
+    static List<String> strings(int size) {
+        List<String> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add("item " + i);
+        }
+        return items;
+    }
+
+    /**
+     * Returns distinct synthetic people, shown by the demo cell factory.
+     * @param size the number of items
+     * @return the items
+     */
+    static List<Person> people(int size) {
+        List<Person> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Person(
+                    "Person " + i,
+                    "person" + i + "@example.com",
+                    "City " + (i % 500),
+                    String.format("02:00:%02x:%02x:%02x:%02x", (i >>> 24) & 0xff, (i >>> 16) & 0xff, (i >>> 8) & 0xff, i & 0xff),
+                    "2024-06-27T10:00:00",
+                    String.format("4111-1111-1111-%04d", i % 10_000)
+            ));
+        }
+        return items;
+    }
+
+    /**
+     * Returns the cell factory of the demo, two-phase cells showing a {@link CellFactory} layout.
+     * @return the cell factory
+     */
+    static Callback<NfxListView<Person>, NfxCell<Person>> demoCellFactory() {
+        return listView -> new NfxTwoPhaseCell<Person, CellFactory.Model>(listView) {
+            /**
+             * The layout of the cell, built once and reused for every person.
+             */
+            private final CellFactory factory = new CellFactory();
+
+            {
+                setGraphics(factory);
+            }
+
+            @Override
+            public CellFactory.Model prepare(Person item) {
+                return CellFactory.Model.of(item);
+            }
+
+            @Override
+            protected void apply(CellFactory.Model model) {
+                factory.apply(model);
+            }
+
+            @Override
+            protected void applyPending(Person item) {
+                factory.clear();
+            }
+        };
+    }
+}
@@ -16,6 +16,11 @@ import xss.it.demo.data.entity.Person;
  * Created on 06/27/2024
  */
 public final class CellFactory extends AnchorPane {
+    /**
+     * The avatar image, loaded once and shared by every cell.
+     */
+    private static final Image AVATAR = new Image(NfxListController.load("/pay.png").toExternalForm());
+
     /**
      * The root container for the cell layout.
      */
@@ -157,17 +162,10 @@ public final class CellFactory extends AnchorPane {
     private final Label cardLabel;
 
     /**
-     * The {@link Person} instance associated with this cell.
+     * Constructs a {@code CellFactory} instance.
+     * The layout is built once, {@link #apply(Model)} then shows the details of any person.
      */
-    private final Person person;
-
-    /**
-     * Constructs a {@code CellFactory} instance for the specified {@link Person}.
-     *
-     * @param person the {@link Person} instance associated with this cell
-     */
-    public CellFactory(Person person) {
-        this.person = person;
+    public CellFactory() {
         cellBox = new AnchorPane();
         hBox = new HBox();
         image = new ImageView();
@@ -200,9 +198,6 @@ public final class CellFactory extends AnchorPane {
         initialize();
 
         events();
-
-        load();
-
     }
 
     /**
@@ -238,7 +233,7 @@ public final class CellFactory extends AnchorPane {
         image.setFitWidth(80.0);
         image.setPickOnBounds(true);
         image.setPreserveRatio(true);
-        image.setImage(new Image(NfxListController.load("/pay.png").toExternalForm()));
+        image.setImage(AVATAR);
         HBox.setMargin(image, new Insets(0.0, 0.0, 0.0, 10.0));
 
         vBox.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
@@ -405,15 +400,60 @@ public final class CellFactory extends AnchorPane {
     }
 
     /**
-     * Loads the person's details into the UI components.
-     * Populates labels with data and masks the credit card number for privacy.
+     * Shows the details of a person in the UI components.
+     * Only assigns the values computed by {@link Model#of(Person)}.
+     *
+     * @param model the details of the person
+     */
+    public void apply(Model model){
+        nameLabel.setText(model.name());
+        emailLabel.setText(model.email());
+        cityLabel.setText(model.city());
+        macLabel.setText(model.mac());
+        cardLabel.setText(model.card());
+        dateLabel.setText(model.date());
+    }
+
+    /**
+     * Clears the details shown, so a recycled cell does not show the previous person
+     * while the details of the next one are formatted.
      */
-    public void load(){
-        nameLabel.setText(person.getName());
-        emailLabel.setText(person.getEmail());
-        cityLabel.setText(person.getCity());
-        macLabel.setText(person.getMac());
-        cardLabel.setText(person.getCreditCard().isBlank() ? "" : "****-****-****-"+person.getCreditCard().substring(15));
-        dateLabel.setText(this.person.getTimestamp().length()<10 ? "Unknown" : person.getTimestamp().substring(0,10));
+    public void clear(){
+        nameLabel.setText("");
+        emailLabel.setText("");
+        cityLabel.setText("");
+        macLabel.setText("");
+        cardLabel.setText("");
+        dateLabel.setText("");
+    }
+
+    /**
+     * The details of a person, formatted for display.
+     *
+     * @param name the name
+     * @param email the email address
+     * @param city the city
+     * @param mac the MAC address
+     * @param card the masked credit card number
+     * @param date the date
+     */
+    public record Model(String name, String email, String city, String mac, String card, String date) {
+        /**
+         * Formats the details of a person, masking the credit card number for privacy.
+         * Safe to call off the FX thread.
+         *
+         * @param person the {@link Person} to format
+         * @return the formatted details
+         */
+        public static Model of(Person person) {
+            return new Model(
+                    person.getName(),
+                    person.getEmail(),
+                    person.getCity(),
+                    person.getMac(),
+                    person.getCreditCard().isBlank() ? "" : "****-****-****-" + person.getCreditCard().substring(15),
+                    person.getTimestamp().length() < 10 ? "Unknown" : person.getTimestamp().substring(0, 10)
+            );
+        }
     }
 }
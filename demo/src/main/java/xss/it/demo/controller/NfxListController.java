@@ -4,7 +4,6 @@ import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -19,11 +18,14 @@ import xss.it.demo.Demo;
 import xss.it.demo.data.entity.Person;
 import xss.it.demo.data.model.PersonModel;
 import xss.it.nfx.list.NfxCell;
+import xss.it.nfx.list.NfxTwoPhaseCell;
 import xss.it.nfx.list.NfxListView;
+import xss.it.nfx.list.collections.ChunkedObservableList;
 import xss.it.nfx.list.misc.SelectionModel;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
@@ -72,6 +74,16 @@ public final class NfxListController extends AnchorPane implements Initializable
      */
     private Callback<NfxListView<Person>, NfxCell<Person>> factory;
 
+    /**
+     * All the people loaded from the resources.
+     */
+    private final ObservableList<Person> people = FXCollections.observableArrayList();
+
+    /**
+     * The people matching the search text.
+     */
+    private final FilteredList<Person> filteredPeople = new FilteredList<>(people, p -> true);
+
     /**
      * A static thread pool with a fixed thread count of 1.
      * Each thread in the pool is set to daemon mode.
@@ -115,6 +127,21 @@ public final class NfxListController extends AnchorPane implements Initializable
         // Save the cell factory for later use
         factory = listView.getCellFactory();
 
+        /*
+         * Positional inserts and bulk removals stay cheap on large lists
+         */
+        listView.setItems(new ChunkedObservableList<>());
+
+        /*
+         * Sorts the people by name, in the background and incrementally afterward.
+         */
+        listView.setComparator(Comparator.comparing(Person::getName, String.CASE_INSENSITIVE_ORDER));
+
+        /*
+         * Filter as the user types
+         */
+        filter();
+
         /*
          * Load the data
          */
@@ -219,11 +246,9 @@ public final class NfxListController extends AnchorPane implements Initializable
          */
         task.valueProperty().addListener((obs, o, list) -> {
             if (list != null) {
-                ObservableList<Person> personObservableList = FXCollections.observableArrayList(list);
                 Platform.runLater(() -> {
-                    listView.getItems().clear();
-                    listView.setItems(personObservableList);
-                    filter();
+                    people.setAll(list);
+                    listView.setItemsDiffed(filteredPeople);
                 });
             }
         });
@@ -236,12 +261,12 @@ public final class NfxListController extends AnchorPane implements Initializable
 
     /**
      * Filters the {@code listView} based on the text input in {@code textField}.
-     * Updates the displayed list dynamically as the user types.
+     * Updates the displayed list dynamically as the user types, only the difference
+     * with the displayed people is applied.
      */
     private void filter(){
-        FilteredList<Person> filteredList = new FilteredList<>(listView.getItems(),e->true);
         searchTxt.textProperty().addListener((obs, o, text) -> {
-            filteredList.setPredicate((Predicate<? super Person>) p->{
+            filteredPeople.setPredicate((Predicate<? super Person>) p->{
                 if (text.isBlank()){
                     return true;
                 }
@@ -249,14 +274,14 @@ public final class NfxListController extends AnchorPane implements Initializable
                 return p.getName().toLowerCase().contains(s);
             });
 
-            SortedList<Person> sortedList = new SortedList<>(filteredList);
-            listView.setItems(FXCollections.observableArrayList(sortedList));
+            listView.setItemsDiffed(filteredPeople);
         });
     }
 
     /**
      * Creates a cell factory for the {@code listView}.
-     * Generates a custom {@code NfxCell} for each {@code Person} in the list.
+     * Generates two-phase cells: the details of a {@code Person} are formatted in the background
+     * and assigned to a layout built once per cell.
      *
      * @return a {@link Callback} for creating {@link NfxCell} instances
      */
@@ -264,13 +289,30 @@ public final class NfxListController extends AnchorPane implements Initializable
         return new Callback<>() {
             @Override
             public NfxCell<Person> call(NfxListView<Person> personBaseListView) {
-                return new NfxCell<>(personBaseListView) {
-                    @Override
-                    public void update(Person item) {
-                        super.update(item);
-                        CellFactory factory = new CellFactory(item);
+                return new NfxTwoPhaseCell<Person, CellFactory.Model>(personBaseListView) {
+                    /**
+                     * The layout of the cell, built once and reused for every person.
+                     */
+                    private final CellFactory factory = new CellFactory();
+
+                    {
                         setGraphics(factory);
                     }
+
+                    @Override
+                    public CellFactory.Model prepare(Person item) {
+                        return CellFactory.Model.of(item);
+                    }
+
+                    @Override
+                    protected void apply(CellFactory.Model model) {
+                        factory.apply(model);
+                    }
+
+                    @Override
+                    protected void applyPending(Person item) {
+                        factory.clear();
+                    }
                 };
             }
         };
@@ -0,0 +1,525 @@
+package com.xss.it.nfx.list.internals;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class AsyncSortedList<T> extends TransformationList<T, T> {
+    /**
+     * The comparator used to order the view.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * The executor running the full sorts.
+     */
+    private final Executor executor;
+
+    /**
+     * The items in source order, only populated once the view is sorted.
+     * Every node is linked to its twin in {@link #viewTree}.
+     */
+    private final OrderTree sourceTree = new OrderTree();
+
+    /**
+     * The items in view order, only populated once the view is sorted.
+     * Every node is linked to its twin in {@link #sourceTree}.
+     */
+    private final OrderTree viewTree = new OrderTree();
+
+    /**
+     * The source changes received while the full sort runs, replayed on its result.
+     */
+    private final List<Delta> journal = new ArrayList<>();
+
+    /**
+     * The number of items touched by the journaled changes.
+     */
+    private int journaled = 0;
+
+    /**
+     * The size of the snapshot being sorted.
+     */
+    private int snapshotSize = 0;
+
+    /**
+     * Flag indicating whether the view is currently sorted.
+     * While the full sort is pending, the view mirrors the source order.
+     */
+    private boolean sorted = false;
+
+    /**
+     * Flag indicating whether the source changed too much during the sort to replay the journal,
+     * in which case the result is dropped and a single fresh sort is started.
+     */
+    private boolean stale = false;
+
+    /**
+     * Flag indicating whether the list was disposed, pending sorts are then skipped.
+     */
+    private volatile boolean disposed = false;
+
+    /**
+     * Constructs an AsyncSortedList.
+     * @param source the source list
+     * @param comparator the comparator used to order the view
+     * @param executor the executor running the full sorts
+     */
+    public AsyncSortedList(ObservableList<? extends T> source, Comparator<? super T> comparator, Executor executor) {
+        super(source);
+        this.comparator = Objects.requireNonNull(comparator);
+        this.executor = Objects.requireNonNull(executor);
+        startSort();
+    }
+
+    /**
+     * Returns the comparator used to order the view.
+     * @return the comparator
+     */
+    public Comparator<? super T> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns whether the view is currently sorted.
+     * @return true once the background sort was applied, false while it is pending
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Disposes the list once it is replaced, a pending sort is skipped and source changes are ignored.
+     */
+    public void dispose() {
+        disposed = true;
+        journal.clear();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (!sorted) {
+            return getSource().get(index);
+        }
+        Objects.checkIndex(index, viewTree.size());
+        return (T) viewTree.get(index).item;
+    }
+
+    @Override
+    public int size() {
+        return sorted ? viewTree.size() : getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size());
+        return sorted ? sourceTree.rank(link(viewTree.get(index)).twin) : index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (index < 0 || index >= size()) {
+            return -1;
+        }
+        return sorted ? viewTree.rank(link(sourceTree.get(index)).twin) : index;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends T> c) {
+        if (disposed) {
+            return;
+        }
+        if (!sorted) {
+            if (!stale) {
+                record(c);
+            }
+            fireChange(new MirrorChange(c));
+            return;
+        }
+
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permuteSource(c.getFrom(), permutation(c));
+            }
+            else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    reposition(link(sourceTree.get(i)));
+                }
+            }
+            else {
+                if (c.wasRemoved()) {
+                    removeSourceRange(c.getFrom(), c.getRemovedSize());
+                }
+                if (c.wasAdded()) {
+                    insertSourceRange(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Schedules a full parallel sort of a single source snapshot, there is never more than one in flight.
+     * The result is applied on the FX thread, together with the changes received in the meantime.
+     */
+    private void startSort() {
+        stale = false;
+        journal.clear();
+        journaled = 0;
+        final Object[] snapshot = getSource().toArray();
+        snapshotSize = snapshot.length;
+        executor.execute(() -> {
+            if (disposed) {
+                return;
+            }
+            int[] order = sortOrder(snapshot, comparator);
+            Platform.runLater(() -> applySort(snapshot, order));
+        });
+    }
+
+    /**
+     * Journals a source change received while the full sort runs.
+     * Once the journal outgrows the snapshot, replaying it would cost more than sorting again,
+     * so it is dropped and the sort result will be discarded.
+     * @param c the source change
+     */
+    private void record(ListChangeListener.Change<? extends T> c) {
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                journal.add(new Permutation(c.getFrom(), permutation(c)));
+                journaled += c.getTo() - c.getFrom();
+            }
+            else if (c.wasUpdated()) {
+                journal.add(new Update(c.getFrom(), c.getTo()));
+                journaled += c.getTo() - c.getFrom();
+            }
+            else {
+                journal.add(new Replacement(c.getFrom(), c.getRemovedSize(), Arrays.asList(c.getAddedSubList().toArray())));
+                journaled += c.getRemovedSize() + c.getAddedSize();
+            }
+        }
+        c.reset();
+        if (journaled > snapshotSize) {
+            journal.clear();
+            stale = true;
+        }
+    }
+
+    /**
+     * Applies a finished sort, replaying the changes journaled since its snapshot.
+     * The view then moves from the source order to the sorted order as a single permutation change.
+     * @param snapshot the snapshot that was sorted, in source order
+     * @param order the sorted source indices
+     */
+    @SuppressWarnings("unchecked")
+    private void applySort(Object[] snapshot, int[] order) {
+        if (disposed) {
+            return;
+        }
+        if (stale) {
+            startSort();
+            return;
+        }
+        Link[] sources = new Link[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            sources[i] = new Link(snapshot[i]);
+        }
+        Link[] views = new Link[order.length];
+        for (int i = 0; i < order.length; i++) {
+            views[i] = new Link(snapshot[order[i]]);
+            views[i].twin = sources[order[i]];
+            sources[order[i]].twin = views[i];
+        }
+        sourceTree.build(sources);
+        viewTree.build(views);
+
+        for (Delta delta : journal) {
+            if (delta instanceof Permutation p) {
+                permuteSource(p.from(), p.permutation());
+            }
+            else if (delta instanceof Update u) {
+                for (int i = u.from(); i < u.to(); i++) {
+                    reposition(link(sourceTree.get(i)));
+                }
+            }
+            else if (delta instanceof Replacement r) {
+                removeSourceRange(r.from(), r.removed());
+                insertSourceRange(r.from(), (List<? extends T>) r.added());
+            }
+        }
+        journal.clear();
+
+        int size = viewTree.size();
+        int[] rank = {0};
+        viewTree.forEach(node -> link(node).mark = rank[0]++);
+        int[] permutation = new int[size];
+        int[] index = {0};
+        sourceTree.forEach(node -> permutation[index[0]++] = link(node).twin.mark);
+        sorted = true;
+        if (size > 0) {
+            beginChange();
+            nextPermutation(0, size, permutation);
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the view elements backed by a removed source range.
+     * @param from the first removed source index
+     * @param count the number of removed items
+     */
+    @SuppressWarnings("unchecked")
+    private void removeSourceRange(int from, int count) {
+        for (OrderTree.Node node : sourceTree.removeRange(from, from + count)) {
+            int pos = viewTree.remove(link(node).twin);
+            if (sorted) {
+                nextRemove(pos, (T) node.item);
+            }
+        }
+    }
+
+    /**
+     * Inserts the items of an added source range at their sorted positions.
+     * @param from the first added source index
+     * @param added the added items
+     */
+    private void insertSourceRange(int from, List<? extends T> added) {
+        Link[] nodes = new Link[added.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Link(added.get(i));
+        }
+        sourceTree.insertAll(from, nodes);
+        for (Link node : nodes) {
+            Link twin = new Link(node.item);
+            twin.twin = node;
+            node.twin = twin;
+            int pos = findInsertionPoint(node);
+            viewTree.insert(pos, twin);
+            if (sorted) {
+                nextAdd(pos, pos + 1);
+            }
+        }
+    }
+
+    /**
+     * Reorders the nodes of a permuted source range. The view order is left as is.
+     * @param from the first permuted source index
+     * @param permutation the new source index of every item of the range
+     */
+    private void permuteSource(int from, int[] permutation) {
+        OrderTree.Node[] nodes = sourceTree.removeRange(from, from + permutation.length);
+        OrderTree.Node[] permuted = new OrderTree.Node[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            permuted[permutation[i] - from] = nodes[i];
+        }
+        sourceTree.insertAll(from, permuted);
+    }
+
+    /**
+     * Moves an updated item to its new sorted position.
+     * @param node the source node of the updated item
+     */
+    @SuppressWarnings("unchecked")
+    private void reposition(Link node) {
+        int old = viewTree.remove(node.twin);
+        int pos = findInsertionPoint(node);
+        viewTree.insert(pos, node.twin);
+        if (!sorted) {
+            return;
+        }
+        if (pos == old) {
+            nextUpdate(pos);
+        }
+        else {
+            nextRemove(old, (T) node.item);
+            nextAdd(pos, pos + 1);
+        }
+    }
+
+    /**
+     * Finds the view position of an item by binary search down the view tree.
+     * Ties are broken by source index to keep the sort stable.
+     * @param node the source node of the item, already in the source tree
+     * @return the view position for the item
+     */
+    @SuppressWarnings("unchecked")
+    private int findInsertionPoint(Link node) {
+        T item = (T) node.item;
+        int sourceIndex = sourceTree.rank(node);
+        return viewTree.lowerBound(other -> {
+            int cmp = comparator.compare((T) other.item, item);
+            return cmp != 0 ? cmp : Integer.compare(sourceTree.rank(link(other).twin), sourceIndex);
+        });
+    }
+
+    /**
+     * Copies the permutation of a permutation change.
+     * @param c the change
+     * @return the new source index of every item of the permuted range
+     */
+    private static int[] permutation(ListChangeListener.Change<?> c) {
+        int[] permutation = new int[c.getTo() - c.getFrom()];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = c.getPermutation(c.getFrom() + i);
+        }
+        return permutation;
+    }
+
+    /**
+     * Returns a node of one of the trees as the link it is.
+     * @param node the node
+     * @return the link
+     */
+    private static Link link(OrderTree.Node node) {
+        return (Link) node;
+    }
+
+    /**
+     * Computes the stable sorted order of a snapshot with a parallel sort.
+     * @param snapshot the items to sort
+     * @param comparator the comparator
+     * @param <T> the type of the items
+     * @return the sorted indices of the snapshot
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int[] sortOrder(Object[] snapshot, Comparator<? super T> comparator) {
+        Entry[] entries = new Entry[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            entries[i] = new Entry(snapshot[i], i);
+        }
+        Comparator<Entry> byItem = (a, b) -> comparator.compare((T) a.item(), (T) b.item());
+        Arrays.parallelSort(entries, byItem.thenComparingInt(Entry::index));
+        int[] order = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            order[i] = entries[i].index();
+        }
+        return order;
+    }
+
+    /**
+     * A node of the source or view tree, linked to the node holding the same item in the other tree.
+     */
+    private static final class Link extends OrderTree.Node {
+        /**
+         * The node holding the same item in the other tree.
+         */
+        private Link twin;
+
+        /**
+         * The view position of the node, only valid while a sort is applied.
+         */
+        private int mark;
+
+        /**
+         * Constructs a Link.
+         * @param item the item
+         */
+        private Link(Object item) {
+            super(item);
+        }
+    }
+
+    /**
+     * A snapshot item paired with its source index.
+     * @param item the item
+     * @param index the source index
+     */
+    private record Entry(Object item, int index) {}
+
+    /**
+     * A source change journaled while the full sort runs.
+     */
+    private sealed interface Delta permits Permutation, Update, Replacement {}
+
+    /**
+     * A journaled permutation of a source range.
+     * @param from the first permuted source index
+     * @param permutation the new source index of every item of the range
+     */
+    private record Permutation(int from, int[] permutation) implements Delta {}
+
+    /**
+     * A journaled update of a source range.
+     * @param from the first updated source index, inclusive
+     * @param to the last updated source index, exclusive
+     */
+    private record Update(int from, int to) implements Delta {}
+
+    /**
+     * A journaled replacement of a source range.
+     * @param from the first replaced source index
+     * @param removed the number of removed items
+     * @param added the added items
+     */
+    private record Replacement(int from, int removed, List<?> added) implements Delta {}
+
+    /**
+     * Re-fires a source change unchanged, used while the view mirrors the source order.
+     */
+    private final class MirrorChange extends ListChangeListener.Change<T> {
+        /**
+         * The wrapped source change.
+         */
+        private final ListChangeListener.Change<? extends T> change;
+
+        /**
+         * Constructs a MirrorChange.
+         * @param change the source change
+         */
+        private MirrorChange(ListChangeListener.Change<? extends T> change) {
+            super(AsyncSortedList.this);
+            this.change = change;
+            change.reset();
+        }
+
+        @Override
+        public boolean next() {
+            return change.next();
+        }
+
+        @Override
+        public void reset() {
+            change.reset();
+        }
+
+        @Override
+        public int getFrom() {
+            return change.getFrom();
+        }
+
+        @Override
+        public int getTo() {
+            return change.getTo();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<T> getRemoved() {
+            return (List<T>) change.getRemoved();
+        }
+
+        @Override
+        public boolean wasUpdated() {
+            return change.wasUpdated();
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            return change.wasPermutated() ? permutation(change) : new int[0];
+        }
+    }
+}
@@ -2,28 +2,56 @@ package com.xss.it.nfx.list.internals;
 
 
 import javafx.animation.*;
+import javafx.application.Platform;
 import javafx.beans.DefaultProperty;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.*;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.WeakListChangeListener;
 import javafx.css.*;
 import javafx.css.converter.SizeConverter;
 import javafx.event.EventHandler;
 import javafx.event.WeakEventHandler;
 import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Control;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
 import javafx.util.Callback;
 import javafx.util.Duration;
 import xss.it.nfx.list.NfxCell;
+import xss.it.nfx.list.NfxCellPool;
 import xss.it.nfx.list.NfxListView;
+import xss.it.nfx.list.NfxRowPainter;
+import xss.it.nfx.list.collections.RingBufferObservableList;
 import xss.it.nfx.list.event.NfxEditEvent;
+import xss.it.nfx.list.event.NfxSlowCellEvent;
 import xss.it.nfx.list.misc.SelectionModel;
+import xss.it.nfx.list.monitor.NfxCellTiming;
+import xss.it.nfx.list.monitor.NfxListStatistics;
 
+import java.lang.management.ManagementFactory;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 /**
  * @author XDSSWAR
@@ -36,6 +64,55 @@ public final class BaseListView<T> extends ScrollPane {
      */
     private static final String CONTENT_STYLE_CLASS = "nfx-content";
 
+    /**
+     * The pseudo-class for the cells built by a cell factory rather than reused, while outlined.
+     */
+    private static final PseudoClass PSEUDO_CLASS_REBUILT = PseudoClass.getPseudoClass("rebuilt");
+
+    /**
+     * The default duration over which a single cell call is reported as slow.
+     */
+    private static final Duration DEFAULT_SLOW_CELL_THRESHOLD = Duration.millis(2);
+
+    /**
+     * The maximum number of operations of an edit script applied as fine-grained changes,
+     * larger scripts are applied with a single setAll.
+     */
+    private static final int MAX_DIFF_OPERATIONS = 256;
+
+    /**
+     * A static thread pool with a fixed thread count of 1, used for background work such as sorting.
+     * Each thread in the pool is set to daemon mode.
+     */
+    private static final ExecutorService THREAD_POOL = Executors.newFixedThreadPool(1, r -> {
+        Thread t = new Thread(r, "nfx-list-worker");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * The number of render models of two-phase cells kept.
+     */
+    private static final int MODEL_CACHE_SIZE = 1024;
+
+    /**
+     * Executor preparing the render models of two-phase cells.
+     */
+    private static final ExecutorService PREPARE_POOL = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), r -> {
+        Thread t = new Thread(r, "nfx-cell-prepare");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Default executor building cells ahead of time.
+     */
+    private static final ExecutorService PREWARM_POOL = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), r -> {
+        Thread t = new Thread(r, "nfx-cell-prewarm");
+        t.setDaemon(true);
+        return t;
+    });
+
     /**
      * The selection model for the list view.
      */
@@ -46,11 +123,151 @@ public final class BaseListView<T> extends ScrollPane {
      */
     private final List<Node> visibleCells;
 
+    /**
+     * The cells staying in the viewport during a layout pass, kept between passes so scrolling does not allocate.
+     */
+    private final Set<Node> keptCells;
+
+    /**
+     * The cells of the viewport being built during a layout pass, kept between passes so scrolling does not allocate.
+     */
+    private final List<Node> nextVisibleCells;
+
     /**
      * The map of items to their corresponding nodes.
      */
     private final Map<T, Node> itemToNodeMap;
 
+    /**
+     * The free cells, by type key, waiting to be bound to an item entering the viewport.
+     */
+    private final Map<Object, Deque<NfxCell<T>>> cellPools;
+
+    /**
+     * The type key every cell was created for.
+     */
+    private final Map<Node, Object> cellTypes;
+
+    /**
+     * The key of every type in the shared cell pool, until the next reset.
+     * The keys hold the factory the cells were built with, so a reset releases cells under the right key.
+     */
+    private final Map<Object, SharedPoolKey> sharedPoolKeys;
+
+    /**
+     * The number of cells being built ahead of time, by type key.
+     */
+    private final Map<Object, Integer> prewarmingCells;
+
+    /**
+     * Incremented on every reset, so cells built for a previous cell factory are dropped.
+     */
+    private int prewarmGeneration = 0;
+
+    /**
+     * The runtime statistics.
+     */
+    private final ListStatistics statistics;
+
+    /**
+     * The number of rows shown by the last layout pass.
+     */
+    private int visibleRows = 0;
+
+    /**
+     * The index of the first item shown by the last layout pass.
+     */
+    private int firstVisibleIndex = 0;
+
+    /**
+     * The index after the last item shown by the last layout pass.
+     */
+    private int lastVisibleIndex = 0;
+
+    /**
+     * Whether the cells built by a cell factory get the rebuilt pseudo-class.
+     */
+    private boolean outlineRebuilt = false;
+
+    /**
+     * Whether the cell factory and update calls are timed.
+     */
+    private boolean timingCells = false;
+
+    /**
+     * The slow cell threshold in nanoseconds.
+     */
+    private long slowCellNanos = toNanos(DEFAULT_SLOW_CELL_THRESHOLD);
+
+    /**
+     * The timings of the cell factory and update calls.
+     */
+    private final CellTimings cellTimings = new CellTimings();
+
+    /**
+     * The name the statistics are registered under in the platform MBean server, null if not registered.
+     */
+    private ObjectName mbeanName;
+
+    /**
+     * The items removed from the list whose cells are not released yet.
+     * An item added back before the release keeps its cell.
+     */
+    private final Set<T> detachedItems;
+
+    /**
+     * The observers registered on the extracted properties of the items that have a cell.
+     */
+    private final Map<T, ItemObserver<T>> itemObservers;
+
+    /**
+     * The items whose properties changed while their cell was off-screen.
+     */
+    private final Set<T> staleItems;
+
+    /**
+     * The render models prepared for two-phase cells, by item, in access order.
+     */
+    private final Map<T, Object> preparedModels;
+
+    /**
+     * The render models being prepared, by item.
+     */
+    private final Map<T, PendingModel<T>> pendingModels;
+
+    /**
+     * The function preparing the render model of an item, by cell type key, learnt from the two-phase cells.
+     */
+    private final Map<Object, Function<? super T, ?>> modelPreparers;
+
+    /**
+     * The replaced items waiting for the next layout pass, mapped to the item whose cell they take over.
+     * Replacing the same index again before the flush only moves the entry, so the cell is rebound once.
+     */
+    private final Map<T, T> pendingRebinds;
+
+    /**
+     * Flag indicating whether an edit script is being applied to the items.
+     */
+    private boolean applyingDiff = false;
+
+    /**
+     * The items list the pending edit scripts are computed for, null when none is pending.
+     */
+    private ObservableList<T> diffTarget;
+
+    /**
+     * The items requested by the last call to {@link #setItemsDiffed(List)}, while its script is pending.
+     * The next call computes its script from them, so back-to-back calls chain instead of all
+     * diffing from the same stale content.
+     */
+    private Object[] diffBase;
+
+    /**
+     * The number of the last requested edit script.
+     */
+    private long diffRequests = 0;
+
     /**
      * The content pane.
      */
@@ -71,6 +288,26 @@ public final class BaseListView<T> extends ScrollPane {
      */
     private final ListChangeListener<T> listChangeListener;
 
+    /**
+     * The items listener as registered on the rendered items, weak so items outliving the list view do not retain it.
+     */
+    private final WeakListChangeListener<T> weakListChangeListener;
+
+    /**
+     * The list the cells are rendered from, either the items or a sorted view of them.
+     */
+    private ObservableList<T> renderedItems;
+
+    /**
+     * The reverse index from items to their position, null unless item indexing is enabled.
+     */
+    private ItemIndex<T> itemIndex;
+
+    /**
+     * The canvas the rows are painted into when a row painter is set, sized to the viewport.
+     */
+    private Canvas canvas;
+
     /**
      * Event handler property for the edit start event.
      */
@@ -106,6 +343,16 @@ public final class BaseListView<T> extends ScrollPane {
         }
     };
 
+    /**
+     * The key pressed handler as registered on the scene, weak so the scene does not retain the list view.
+     */
+    private final WeakEventHandler<KeyEvent> weakKeyPressedEvent = new WeakEventHandler<>(keyPressedEvent);
+
+    /**
+     * The key released handler as registered on the scene, weak so the scene does not retain the list view.
+     */
+    private final WeakEventHandler<KeyEvent> weakKeyReleasedEvent = new WeakEventHandler<>(keyReleasedEvent);
+
     /**
      * Parent ListView Container
      */
@@ -119,49 +366,53 @@ public final class BaseListView<T> extends ScrollPane {
         this.parent = parent;
         this.selectionModel = new SelectionModel<>();
         this.visibleCells = new ArrayList<>();
+        this.keptCells = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.nextVisibleCells = new ArrayList<>();
         this.itemToNodeMap = new HashMap<>();
+        this.cellPools = new HashMap<>();
+        this.cellTypes = new HashMap<>();
+        this.sharedPoolKeys = new HashMap<>();
+        this.prewarmingCells = new HashMap<>();
+        this.statistics = new ListStatistics();
+        this.detachedItems = new HashSet<>();
+        this.itemObservers = new HashMap<>();
+        this.staleItems = new HashSet<>();
+        this.preparedModels = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<T, Object> eldest) {
+                return size() > MODEL_CACHE_SIZE;
+            }
+        };
+        this.pendingModels = new HashMap<>();
+        this.modelPreparers = new HashMap<>();
+        this.pendingRebinds = new HashMap<>();
         this.contentPane = new VirtualPane();
         this.currentCellsPerRow = new SimpleIntegerProperty(1);
 
         selectionModelChangeListener = c-> {
-            while (c.next()){
-                if (c.wasAdded()){
-                    for (T t : c.getAddedSubList()) {
-                        Node node = getCellNode(t);
-                        if (node instanceof NfxCell<?> cell) {
-                            cell.setSelected(true);
-                        }
-                    }
-                }
-                else if (c.wasRemoved()){
-                    for (T t : c.getRemoved()) {
-                        Node node = getCellNode(t);
-                        //We don't want to unselect a removed cell, no point on doing it , right? :)
-                        if (getItems().contains(t)  && node instanceof NfxCell<?> cell) {
-                            cell.setSelected(false);
-                        }
-                    }
-                }
+            SelectionChangeEvent event = new SelectionChangeEvent();
+            event.begin();
+            onSelectionChanged(c);
+            event.end();
+            if (event.shouldCommit()) {
+                event.changeSize = changeSize(c);
+                event.commit();
             }
         };
 
         this.listChangeListener = c -> {
-            while (c.next()) {
-                if (c.wasRemoved()) {
-                    for (T item : c.getRemoved()) {
-                        /*
-                         * Remove if its selected
-                         */
-                        if (getSelectionModel().isSelected(item)){
-                            getSelectionModel().getSelectedItems().remove(item);
-                        }
-                    }
-                }
-                setCount(getItems().size());
+            ItemsChangeEvent event = new ItemsChangeEvent();
+            event.begin();
+            onItemsChanged(c);
+            event.end();
+            if (event.shouldCommit()) {
+                event.changeSize = changeSize(c);
+                event.commit();
             }
-            onUpdate();
         };
 
+        this.weakListChangeListener = new WeakListChangeListener<>(listChangeListener);
+
         initialize();
     }
 
@@ -186,36 +437,82 @@ public final class BaseListView<T> extends ScrollPane {
         getSelectionModel().getSelectedItems().addListener(selectionModelChangeListener);
 
 
-        itemsProperty().addListener((obs, o, n) -> {
-            if (o != null) {
-                o.removeListener(listChangeListener);
-            }
-
-            getItems().addListener(listChangeListener);
+        /*
+         * An invalidation listener, a change listener compares the lists with equals
+         * and misses a swap between two lists holding the same items, such as two empty lists
+         */
+        itemsProperty().addListener(obs -> {
+            updateRenderedItems();
             /*
              * Clear selected items
              */
             getSelectionModel().clearSelection();
-            setCount(n.size());
+            setCount(getItems().size());
             onUpdate();
         });
 
-        getItems().addListener(listChangeListener);
+        updateRenderedItems();
+
+        comparatorProperty().addListener(obs -> {
+            updateRenderedItems();
+            updateCells();
+        });
+
+        itemIndexingProperty().addListener((obs, o, enabled) -> {
+            if (itemIndex != null) {
+                itemIndex.detach();
+            }
+            itemIndex = enabled ? new ItemIndex<>() : null;
+            updateRenderedItems();
+        });
+
+        tailCapacityProperty().addListener((obs, o, n) -> {
+            int capacity = n.intValue();
+            if (getItems() instanceof RingBufferObservableList<T> tail) {
+                if (capacity > 0) {
+                    tail.setCapacity(capacity);
+                }
+                else {
+                    setItems(FXCollections.observableArrayList(tail));
+                }
+            }
+            else if (capacity > 0) {
+                setItems(new RingBufferObservableList<>(capacity, getItems()));
+            }
+        });
+
+        followTailProperty().addListener((obs, o, follow) -> {
+            if (follow) {
+                scrollToBottom();
+            }
+        });
 
         cellFactoryProperty().addListener(obs -> onUpdate());
 
-        cellHeightProperty().addListener(obs -> onUpdate());
+        cellTypeResolverProperty().addListener(obs -> onUpdate());
 
-        if (getScene() != null) {
-            initializeKeyEvents();
-        }
+        cellPoolProperty().addListener(obs -> onUpdate());
+
+        prewarmSizeProperty().addListener(obs -> prewarmCells());
 
-        sceneProperty().addListener(obs -> {
-            if (getScene() != null) {
-                initializeKeyEvents();
+        getCellFactories().addListener((MapChangeListener<Object, Callback<NfxListView<T>, NfxCell<T>>>) c -> onUpdate());
+
+        rowPainterProperty().addListener(obs -> onUpdate());
+
+        viewportBoundsProperty().addListener(obs -> {
+            if (getRowPainter() != null) {
+                paintRows();
             }
         });
 
+        extractorProperty().addListener(obs -> onUpdate());
+
+        cellHeightProperty().addListener(obs -> onUpdate());
+
+        moveKeyEvents(null, getScene());
+
+        sceneProperty().addListener((obs, oldScene, newScene) -> moveKeyEvents(oldScene, newScene));
+
         onUpdate();
 
         if (getItems().isEmpty()){
@@ -329,578 +626,2352 @@ public final class BaseListView<T> extends ScrollPane {
     }
 
     /**
-     * The selection mode property.
+     * The cell type resolver property.
      */
-    private ObjectProperty<SelectionModel.Mode> selectionMode;
+    private ObjectProperty<Callback<T, Object>> cellTypeResolver;
 
     /**
-     * Returns the selection mode.
-     * @return the selection mode
+     * Returns the cell type resolver.
+     * @return the callback returning the type key of an item, or null if every item has the same type
      */
-    public SelectionModel.Mode getSelectionMode() {
-        return selectionModeProperty().get();
+    public Callback<T, Object> getCellTypeResolver() {
+        return cellTypeResolverProperty().get();
     }
 
     /**
-     * Returns the selection mode property.
-     * @return the object property for the selection mode
+     * Returns the cell type resolver property.
+     * The type key of an item selects its factory in {@link #getCellFactories()} and its recycling pool,
+     * so a cell is only ever rebound to items of the type it was created for.
+     * @return the object property for the cell type resolver
      */
-    public ObjectProperty<SelectionModel.Mode> selectionModeProperty() {
-        if (selectionMode == null) {
-            selectionMode = new SimpleObjectProperty<>(this, "selectionMode", SelectionModel.Mode.SINGLE);
+    public ObjectProperty<Callback<T, Object>> cellTypeResolverProperty() {
+        if (cellTypeResolver == null) {
+            cellTypeResolver = new SimpleObjectProperty<>(this, "cellTypeResolver");
         }
-        return selectionMode;
+        return cellTypeResolver;
     }
 
     /**
-     * Sets the selection mode.
-     * @param selectionMode the new selection mode
+     * Sets the cell type resolver.
+     * @param cellTypeResolver the callback returning the type key of an item, or null if every item has the same type
      */
-    public void setSelectionMode(SelectionModel.Mode selectionMode) {
-        selectionModeProperty().set(selectionMode);
+    public void setCellTypeResolver(Callback<T, Object> cellTypeResolver) {
+        cellTypeResolverProperty().set(cellTypeResolver);
     }
 
     /**
-     * Allow un-select on click property.
+     * The overscan property.
      */
-    private BooleanProperty allowUnselectOnClick;
+    private IntegerProperty overscan;
 
     /**
-     * Returns whether unselect on click is allowed.
-     * @return true if unselect on click is allowed, false otherwise
+     * Returns the number of rows above and below the viewport whose render models are prepared ahead of time.
+     * @return the overscan in rows
      */
-    public boolean isAllowUnselectOnClick() {
-        return allowUnselectOnClickProperty().get();
+    public int getOverscan() {
+        return overscanProperty().get();
     }
 
     /**
-     * Returns allow un-select on click property.
-     * @return the boolean property for allow un-select on click
+     * Returns the overscan property.
+     * Only two-phase cells have render models to prepare, the overscan has no effect on other cells.
+     * @return the integer property for the overscan
      */
-    public BooleanProperty allowUnselectOnClickProperty() {
-        if (allowUnselectOnClick == null) {
-            allowUnselectOnClick = new SimpleBooleanProperty(this, "allowUnselectOnClick", false);
+    public IntegerProperty overscanProperty() {
+        if (overscan == null) {
+            overscan = new SimpleIntegerProperty(this, "overscan", 2);
         }
-        return allowUnselectOnClick;
+        return overscan;
     }
 
     /**
-     * Sets whether unselect on click is allowed.
-     * @param allowUnselectOnClick true to allow un-select on click, false otherwise
+     * Sets the number of rows above and below the viewport whose render models are prepared ahead of time.
+     * @param overscan the overscan in rows
      */
-    public void setAllowUnselectOnClick(boolean allowUnselectOnClick) {
-        allowUnselectOnClickProperty().set(allowUnselectOnClick);
+    public void setOverscan(int overscan) {
+        overscanProperty().set(overscan);
     }
 
     /**
-     * The editable property.
+     * The prewarm size property.
      */
-    private BooleanProperty editable;
+    private IntegerProperty prewarmSize;
 
     /**
-     * Returns whether the list view is editable.
-     * @return true if the list view is editable, false otherwise
+     * Returns the number of idle cells kept ready per cell type.
+     * @return the prewarm size, 0 if cells are only built when needed
      */
-    public boolean isEditable() {
-        return editableProperty().get();
+    public int getPrewarmSize() {
+        return prewarmSizeProperty().get();
     }
 
     /**
-     * Returns the editable property.
-     * @return the boolean property for editable
+     * Returns the prewarm size property.
+     * When positive, cells are built by the prewarm executor off the FX thread until the pool of every
+     * known cell type holds that many idle cells, and the pool is topped up as cells are taken from it.
+     * Cell factories must then be safe to call from a worker thread, building nodes without touching a live scene.
+     * @return the integer property for the prewarm size
      */
-    public BooleanProperty editableProperty() {
-        if (editable == null) {
-            editable = new SimpleBooleanProperty(this, "editable", false);
+    public IntegerProperty prewarmSizeProperty() {
+        if (prewarmSize == null) {
+            prewarmSize = new SimpleIntegerProperty(this, "prewarmSize", 0);
         }
-        return editable;
+        return prewarmSize;
     }
 
     /**
-     * Sets whether the list view is editable.
-     * @param editable true to make the list view editable, false otherwise
+     * Sets the number of idle cells kept ready per cell type.
+     * @param prewarmSize the prewarm size, 0 to only build cells when needed
      */
-    public void setEditable(boolean editable) {
-        editableProperty().set(editable);
+    public void setPrewarmSize(int prewarmSize) {
+        prewarmSizeProperty().set(prewarmSize);
     }
 
     /**
-     * The editing index property.
+     * The prewarm executor property.
      */
-    private IntegerProperty editingIndex;
+    private ObjectProperty<Executor> prewarmExecutor;
 
     /**
-     * Returns the index of the item currently being edited.
-     * @return the editing index
+     * Returns the executor building cells ahead of time.
+     * @return the prewarm executor, or null to use the default worker pool
      */
-    public int getEditingIndex() {
-        return editingIndexProperty().get();
+    public Executor getPrewarmExecutor() {
+        return prewarmExecutorProperty().get();
     }
 
     /**
-     * Returns the editing index property.
-     * @return the integer property for the editing index
+     * Returns the prewarm executor property.
+     * @return the object property for the prewarm executor
      */
-    public IntegerProperty editingIndexProperty() {
-        if (editingIndex == null){
-            editingIndex = new SimpleIntegerProperty(this, "editingIndex", -1);
+    public ObjectProperty<Executor> prewarmExecutorProperty() {
+        if (prewarmExecutor == null) {
+            prewarmExecutor = new SimpleObjectProperty<>(this, "prewarmExecutor");
         }
-        return editingIndex;
+        return prewarmExecutor;
     }
 
     /**
-     * Sets the index of the item currently being edited.
-     * @param editingIndex the new editing index
+     * Sets the executor building cells ahead of time.
+     * @param prewarmExecutor the prewarm executor, or null to use the default worker pool
      */
-    public void setEditingIndex(int editingIndex) {
-        editingIndexProperty().set(editingIndex);
+    public void setPrewarmExecutor(Executor prewarmExecutor) {
+        prewarmExecutorProperty().set(prewarmExecutor);
     }
 
     /**
-     * Returns the event handler for the edit commit event.
-     * @return the event handler for the edit commit event
+     * The cell pool property.
      */
-    public EventHandler<NfxEditEvent<?>> getOnEditCommit() {
-        return onEditCommitProperty().get();
-    }
+    private ObjectProperty<NfxCellPool<T>> cellPool;
 
     /**
-     * Returns the property for the edit commit event handler.
-     * @return the object property for the edit commit event handler
+     * Returns the cell pool shared with other list views.
+     * @return the shared cell pool, or null if the cells are only recycled within this list view
      */
-    public ObjectProperty<EventHandler<NfxEditEvent<?>>> onEditCommitProperty() {
-        if (onEditCommit == null) {
-            onEditCommit = new ObjectPropertyBase<>() {
-                @Override
-                public Object getBean() {
-                    return BaseListView.this;
-                }
-
-                @Override
-                public String getName() {
-                    return "onEditCommit";
-                }
+    public NfxCellPool<T> getCellPool() {
+        return cellPoolProperty().get();
+    }
 
-                @Override
-                protected void invalidated() {
-                    BaseListView.this.setEventHandler(NfxEditEvent.NFX_EDIT_COMMIT, this.get());
-                }
-            };
+    /**
+     * Returns the cell pool property.
+     * When set, cells leaving the viewport go to the shared pool instead of a pool of this list view,
+     * and new cells are taken from it before the cell factory is called.
+     * @return the object property for the cell pool
+     */
+    public ObjectProperty<NfxCellPool<T>> cellPoolProperty() {
+        if (cellPool == null) {
+            cellPool = new SimpleObjectProperty<>(this, "cellPool");
         }
-        return onEditCommit;
+        return cellPool;
     }
 
     /**
-     * Sets the event handler for the edit commit event.
-     * @param onEditCommit the event handler for the edit commit event
+     * Sets the cell pool shared with other list views.
+     * @param cellPool the shared cell pool, or null to only recycle cells within this list view
      */
-    public void setOnEditCommit(EventHandler<NfxEditEvent<?>> onEditCommit) {
-        onEditCommitProperty().set(onEditCommit);
+    public void setCellPool(NfxCellPool<T> cellPool) {
+        cellPoolProperty().set(cellPool);
     }
 
     /**
-     * Returns the event handler for the edit start event.
+     * The cell factories by type key.
+     */
+    private ObservableMap<Object, Callback<NfxListView<T>, NfxCell<T>>> cellFactories;
+
+    /**
+     * Returns the cell factories by type key.
+     * Items whose type key has no factory use the cell factory.
+     * @return the observable map of cell factories
+     */
+    public ObservableMap<Object, Callback<NfxListView<T>, NfxCell<T>>> getCellFactories() {
+        if (cellFactories == null) {
+            cellFactories = FXCollections.observableHashMap();
+        }
+        return cellFactories;
+    }
+
+    /**
+     * The extractor property.
+     */
+    private ObjectProperty<Callback<T, Observable[]>> extractor;
+
+    /**
+     * Returns the extractor.
+     * @return the callback returning the observables of an item, or null
+     */
+    public Callback<T, Observable[]> getExtractor() {
+        return extractorProperty().get();
+    }
+
+    /**
+     * Returns the extractor property.
+     * The observables returned for an item are watched while the item has a cell,
+     * a change updates that cell alone if it is visible, or once it is scrolled back into view.
+     * @return the object property for the extractor
+     */
+    public ObjectProperty<Callback<T, Observable[]>> extractorProperty() {
+        if (extractor == null) {
+            extractor = new SimpleObjectProperty<>(this, "extractor");
+        }
+        return extractor;
+    }
+
+    /**
+     * Sets the extractor.
+     * @param extractor the callback returning the observables of an item, or null
+     */
+    public void setExtractor(Callback<T, Observable[]> extractor) {
+        extractorProperty().set(extractor);
+    }
+
+    /**
+     * The update coalescing property.
+     */
+    private BooleanProperty updateCoalescing;
+
+    /**
+     * Returns whether item replacements are coalesced per pulse.
+     * @return true if update coalescing is enabled, false otherwise
+     */
+    public boolean isUpdateCoalescing() {
+        return updateCoalescingProperty().get();
+    }
+
+    /**
+     * Returns the update coalescing property.
+     * When enabled, replacing an item keeps its cell and rebinds it to the new item on the next
+     * layout pass, once no matter how many times the index was replaced in between.
+     * Cells of off-screen items are only marked stale and rebound when they become visible.
+     * @return the boolean property for update coalescing
+     */
+    public BooleanProperty updateCoalescingProperty() {
+        if (updateCoalescing == null) {
+            updateCoalescing = new SimpleBooleanProperty(this, "updateCoalescing", false);
+        }
+        return updateCoalescing;
+    }
+
+    /**
+     * Sets whether item replacements are coalesced per pulse.
+     * @param updateCoalescing true to enable update coalescing, false otherwise
+     */
+    public void setUpdateCoalescing(boolean updateCoalescing) {
+        updateCoalescingProperty().set(updateCoalescing);
+    }
+
+    /**
+     * The tail capacity property.
+     */
+    private IntegerProperty tailCapacity;
+
+    /**
+     * Returns the tail capacity.
+     * @return the maximum number of items kept in tail mode, 0 if tail mode is disabled
+     */
+    public int getTailCapacity() {
+        return tailCapacityProperty().get();
+    }
+
+    /**
+     * Returns the tail capacity property.
+     * A positive capacity switches the items to a {@link RingBufferObservableList} keeping only the newest items,
+     * 0 switches back to a regular list. Items can still be removed or replaced in tail mode,
+     * but {@link #setItemsDiffed(List)} is not supported, as appending evicts items under the edit script.
+     * @return the integer property for the tail capacity
+     */
+    public IntegerProperty tailCapacityProperty() {
+        if (tailCapacity == null) {
+            tailCapacity = new SimpleIntegerProperty(this, "tailCapacity", 0);
+        }
+        return tailCapacity;
+    }
+
+    /**
+     * Sets the tail capacity.
+     * @param tailCapacity the maximum number of items kept in tail mode, 0 to disable tail mode
+     */
+    public void setTailCapacity(int tailCapacity) {
+        tailCapacityProperty().set(tailCapacity);
+    }
+
+    /**
+     * The follow tail property.
+     */
+    private BooleanProperty followTail;
+
+    /**
+     * Returns whether the view follows the end of the items.
+     * @return true if follow tail is enabled, false otherwise
+     */
+    public boolean isFollowTail() {
+        return followTailProperty().get();
+    }
+
+    /**
+     * Returns the follow tail property.
+     * When enabled and the view is scrolled to the bottom, it stays at the bottom as items change.
+     * Scrolling away pauses following, scrolling back to the bottom resumes it.
+     * @return the boolean property for follow tail
+     */
+    public BooleanProperty followTailProperty() {
+        if (followTail == null) {
+            followTail = new SimpleBooleanProperty(this, "followTail", false);
+        }
+        return followTail;
+    }
+
+    /**
+     * Sets whether the view follows the end of the items.
+     * @param followTail true to enable follow tail, false otherwise
+     */
+    public void setFollowTail(boolean followTail) {
+        followTailProperty().set(followTail);
+    }
+
+    /**
+     * The comparator property.
+     */
+    private ObjectProperty<Comparator<? super T>> comparator;
+
+    /**
+     * Returns the comparator used to sort the displayed items.
+     * @return the comparator, or null if the items are displayed in their list order
+     */
+    public Comparator<? super T> getComparator() {
+        return comparatorProperty().get();
+    }
+
+    /**
+     * Returns the comparator property.
+     * The items are sorted by a parallel sort on a background thread, then kept sorted incrementally.
+     * @return the object property for the comparator
+     */
+    public ObjectProperty<Comparator<? super T>> comparatorProperty() {
+        if (comparator == null) {
+            comparator = new SimpleObjectProperty<>(this, "comparator");
+        }
+        return comparator;
+    }
+
+    /**
+     * Sets the comparator used to sort the displayed items.
+     * @param comparator the new comparator, or null to display the items in their list order
+     */
+    public void setComparator(Comparator<? super T> comparator) {
+        comparatorProperty().set(comparator);
+    }
+
+    /**
+     * The row painter property.
+     */
+    private ObjectProperty<NfxRowPainter<T>> rowPainter;
+
+    /**
+     * Returns the row painter.
+     * @return the row painter, or null if the rows are rendered by cells
+     */
+    public NfxRowPainter<T> getRowPainter() {
+        return rowPainterProperty().get();
+    }
+
+    /**
+     * Returns the row painter property.
+     * When set, no cell is created: the visible rows are painted into a single canvas the size of the viewport,
+     * and clicks are mapped to items from their coordinates. A scroll frame only costs the pixels painted,
+     * whatever the number of items. Cell factories, editing and extractors do not apply in this mode,
+     * {@link #refresh()} repaints the rows.
+     * @return the object property for the row painter
+     */
+    public ObjectProperty<NfxRowPainter<T>> rowPainterProperty() {
+        if (rowPainter == null) {
+            rowPainter = new SimpleObjectProperty<>(this, "rowPainter");
+        }
+        return rowPainter;
+    }
+
+    /**
+     * Sets the row painter.
+     * @param rowPainter the new row painter, or null to render the rows with cells
+     */
+    public void setRowPainter(NfxRowPainter<T> rowPainter) {
+        rowPainterProperty().set(rowPainter);
+    }
+
+    /**
+     * The item indexing property.
+     */
+    private BooleanProperty itemIndexing;
+
+    /**
+     * Returns whether a reverse index from items to positions is maintained.
+     * @return true if item indexing is enabled, false otherwise
+     */
+    public boolean isItemIndexing() {
+        return itemIndexingProperty().get();
+    }
+
+    /**
+     * Returns the item indexing property.
+     * When enabled, the position of every item is maintained incrementally on each list change,
+     * so item lookups no longer scan the list.
+     * @return the boolean property for item indexing
+     */
+    public BooleanProperty itemIndexingProperty() {
+        if (itemIndexing == null) {
+            itemIndexing = new SimpleBooleanProperty(this, "itemIndexing", false);
+        }
+        return itemIndexing;
+    }
+
+    /**
+     * Sets whether a reverse index from items to positions is maintained.
+     * @param itemIndexing true to enable item indexing, false otherwise
+     */
+    public void setItemIndexing(boolean itemIndexing) {
+        itemIndexingProperty().set(itemIndexing);
+    }
+
+    /**
+     * The selection mode property.
+     */
+    private ObjectProperty<SelectionModel.Mode> selectionMode;
+
+    /**
+     * Returns the selection mode.
+     * @return the selection mode
+     */
+    public SelectionModel.Mode getSelectionMode() {
+        return selectionModeProperty().get();
+    }
+
+    /**
+     * Returns the selection mode property.
+     * @return the object property for the selection mode
+     */
+    public ObjectProperty<SelectionModel.Mode> selectionModeProperty() {
+        if (selectionMode == null) {
+            selectionMode = new SimpleObjectProperty<>(this, "selectionMode", SelectionModel.Mode.SINGLE);
+        }
+        return selectionMode;
+    }
+
+    /**
+     * Sets the selection mode.
+     * @param selectionMode the new selection mode
+     */
+    public void setSelectionMode(SelectionModel.Mode selectionMode) {
+        selectionModeProperty().set(selectionMode);
+    }
+
+    /**
+     * Allow un-select on click property.
+     */
+    private BooleanProperty allowUnselectOnClick;
+
+    /**
+     * Returns whether unselect on click is allowed.
+     * @return true if unselect on click is allowed, false otherwise
+     */
+    public boolean isAllowUnselectOnClick() {
+        return allowUnselectOnClickProperty().get();
+    }
+
+    /**
+     * Returns allow un-select on click property.
+     * @return the boolean property for allow un-select on click
+     */
+    public BooleanProperty allowUnselectOnClickProperty() {
+        if (allowUnselectOnClick == null) {
+            allowUnselectOnClick = new SimpleBooleanProperty(this, "allowUnselectOnClick", false);
+        }
+        return allowUnselectOnClick;
+    }
+
+    /**
+     * Sets whether unselect on click is allowed.
+     * @param allowUnselectOnClick true to allow un-select on click, false otherwise
+     */
+    public void setAllowUnselectOnClick(boolean allowUnselectOnClick) {
+        allowUnselectOnClickProperty().set(allowUnselectOnClick);
+    }
+
+    /**
+     * The editable property.
+     */
+    private BooleanProperty editable;
+
+    /**
+     * Returns whether the list view is editable.
+     * @return true if the list view is editable, false otherwise
+     */
+    public boolean isEditable() {
+        return editableProperty().get();
+    }
+
+    /**
+     * Returns the editable property.
+     * @return the boolean property for editable
+     */
+    public BooleanProperty editableProperty() {
+        if (editable == null) {
+            editable = new SimpleBooleanProperty(this, "editable", false);
+        }
+        return editable;
+    }
+
+    /**
+     * Sets whether the list view is editable.
+     * @param editable true to make the list view editable, false otherwise
+     */
+    public void setEditable(boolean editable) {
+        editableProperty().set(editable);
+    }
+
+    /**
+     * The editing index property.
+     */
+    private IntegerProperty editingIndex;
+
+    /**
+     * Returns the index of the item currently being edited.
+     * @return the editing index
+     */
+    public int getEditingIndex() {
+        return editingIndexProperty().get();
+    }
+
+    /**
+     * Returns the editing index property.
+     * @return the integer property for the editing index
+     */
+    public IntegerProperty editingIndexProperty() {
+        if (editingIndex == null){
+            editingIndex = new SimpleIntegerProperty(this, "editingIndex", -1);
+        }
+        return editingIndex;
+    }
+
+    /**
+     * Sets the index of the item currently being edited.
+     * @param editingIndex the new editing index
+     */
+    public void setEditingIndex(int editingIndex) {
+        editingIndexProperty().set(editingIndex);
+    }
+
+    /**
+     * Returns the event handler for the edit commit event.
+     * @return the event handler for the edit commit event
+     */
+    public EventHandler<NfxEditEvent<?>> getOnEditCommit() {
+        return onEditCommitProperty().get();
+    }
+
+    /**
+     * Returns the property for the edit commit event handler.
+     * @return the object property for the edit commit event handler
+     */
+    public ObjectProperty<EventHandler<NfxEditEvent<?>>> onEditCommitProperty() {
+        if (onEditCommit == null) {
+            onEditCommit = new ObjectPropertyBase<>() {
+                @Override
+                public Object getBean() {
+                    return BaseListView.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "onEditCommit";
+                }
+
+                @Override
+                protected void invalidated() {
+                    BaseListView.this.setEventHandler(NfxEditEvent.NFX_EDIT_COMMIT, this.get());
+                }
+            };
+        }
+        return onEditCommit;
+    }
+
+    /**
+     * Sets the event handler for the edit commit event.
+     * @param onEditCommit the event handler for the edit commit event
+     */
+    public void setOnEditCommit(EventHandler<NfxEditEvent<?>> onEditCommit) {
+        onEditCommitProperty().set(onEditCommit);
+    }
+
+    /**
+     * Returns the event handler for the edit start event.
      * @return the event handler for the edit start event
      */
-    public EventHandler<NfxEditEvent<?>> getOnEditStart() {
-        return onEditStartProperty().get();
+    public EventHandler<NfxEditEvent<?>> getOnEditStart() {
+        return onEditStartProperty().get();
+    }
+
+    /**
+     * Returns the property for the edit start event handler.
+     * @return the object property for the edit start event handler
+     */
+    public ObjectProperty<EventHandler<NfxEditEvent<?>>> onEditStartProperty() {
+        if (onEditStart == null) {
+            onEditStart = new ObjectPropertyBase<>() {
+                @Override
+                public Object getBean() {
+                    return BaseListView.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "onEditStart";
+                }
+
+                @Override
+                protected void invalidated() {
+                    BaseListView.this.setEventHandler(NfxEditEvent.NFX_EDIT_START, this.get());
+                }
+            };
+        }
+        return onEditStart;
+    }
+
+    /**
+     * Sets the event handler for the edit start event.
+     * @param onEditStart the event handler for the edit start event
+     */
+    public void setOnEditStart(EventHandler<NfxEditEvent<?>> onEditStart) {
+        onEditStartProperty().set(onEditStart);
+    }
+
+    /**
+     * Returns the event handler for the edit cancel event.
+     * @return the event handler for the edit cancel event
+     */
+    public EventHandler<NfxEditEvent<?>> getOnEditCancel() {
+        return onEditCancelProperty().get();
+    }
+
+    /**
+     * Returns the property for the edit cancel event handler.
+     * @return the object property for the edit cancel event handler
+     */
+    public ObjectProperty<EventHandler<NfxEditEvent<?>>> onEditCancelProperty() {
+        if (onEditCancel == null) {
+            onEditCancel = new ObjectPropertyBase<>() {
+                @Override
+                public Object getBean() {
+                    return BaseListView.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "onEditCancel";
+                }
+
+                @Override
+                protected void invalidated() {
+                    BaseListView.this.setEventHandler(NfxEditEvent.NFX_EDIT_CANCEL, this.get());
+                }
+            };
+        }
+        return onEditCancel;
+    }
+
+    /**
+     * Sets the event handler for the edit cancel event.
+     * @param onEditCancel the event handler for the edit cancel event
+     */
+    public void setOnEditCancel(EventHandler<NfxEditEvent<?>> onEditCancel) {
+        onEditCancelProperty().set(onEditCancel);
+    }
+
+    /*
+     * =================================== STYLEABLES ==================================================================
+     */
+
+    /**
+     * The cell height property.
+     */
+    private StyleableDoubleProperty cellHeight;
+
+    /**
+     * Returns the cell height.
+     * @return the cell height
+     */
+    public double getCellHeight() {
+        return cellHeightProperty().get();
+    }
+
+    /**
+     * Sets the cell height.
+     * @param value the new cell height
+     */
+    public void setCellHeight(double value) {
+        cellHeightProperty().set(value);
+    }
+
+    /**
+     * Returns the cell height property.
+     * @return the styleable double property for cell height
+     */
+    public StyleableDoubleProperty cellHeightProperty() {
+        if (cellHeight == null) {
+            cellHeight = new SimpleStyleableDoubleProperty(
+                    StyleableProperties.CELL_HEIGHT,
+                    BaseListView.this,
+                    "cellHeight",
+                    50.0
+            );
+        }
+        return cellHeight;
+    }
+
+    /**
+     * The minimum cell width property.
+     */
+    private StyleableDoubleProperty minCellWidthBreakPoint;
+
+    /**
+     * Returns the minimum cell width.
+     * @return the minimum cell width
+     */
+    public double getMinCellWidthBreakPoint() {
+        return minCellWidthBreakPointProperty().get();
+    }
+
+    /**
+     * Sets the minimum cell width.
+     * @param value the new minimum cell width
+     */
+    public void setMinCellWidthBreakPoint(double value) {
+        minCellWidthBreakPointProperty().set(value);
+    }
+
+    /**
+     * Returns the minimum cell width property.
+     * @return the styleable double property for minimum cell width
+     */
+    public StyleableDoubleProperty minCellWidthBreakPointProperty() {
+        if (minCellWidthBreakPoint == null) {
+            minCellWidthBreakPoint = new SimpleStyleableDoubleProperty(
+                    StyleableProperties.MIN_CELL_WIDTH_BREAK_POINT,
+                    BaseListView.this,
+                    "minCellWidthBreakPoint",
+                    100.0
+            );
+        }
+        return minCellWidthBreakPoint;
+    }
+
+    /**
+     * The maximum cells per row property.
+     */
+    private StyleableIntegerProperty maxCellsPerRow;
+
+    /**
+     * Returns the maximum cells per row.
+     * @return the maximum cells per row
+     */
+    public int getMaxCellsPerRow() {
+        return maxCellsPerRowProperty().get();
+    }
+
+    /**
+     * Returns the maximum cells per row property.
+     * @return the styleable integer property for maximum cells per row
+     */
+    public StyleableIntegerProperty maxCellsPerRowProperty() {
+        if (maxCellsPerRow == null) {
+            maxCellsPerRow = new SimpleStyleableIntegerProperty(
+                    StyleableProperties.MAX_CELLS_PER_ROW,
+                    BaseListView.this,
+                    "maxCellsPerRow",
+                    12
+            );
+        }
+        return maxCellsPerRow;
+    }
+
+    /**
+     * Sets the maximum cells per row.
+     * @param maxCellsPerRow the new maximum cells per row
+     */
+    public void setMaxCellsPerRow(int maxCellsPerRow) {
+        maxCellsPerRowProperty().set(maxCellsPerRow);
+    }
+
+
+    /**
+     * The right gap property.
+     */
+    private StyleableDoubleProperty rightGap;
+
+    /**
+     * Returns the right gap.
+     * @return the right gap
+     */
+    public double getRightGap() {
+        return rightGapProperty().get();
+    }
+
+    /**
+     * Returns the right gap property.
+     * @return the styleable double property for right gap
+     */
+    public StyleableDoubleProperty rightGapProperty() {
+        if (rightGap == null) {
+            rightGap = new SimpleStyleableDoubleProperty(
+                    StyleableProperties.RIGHT_GAP,
+                    BaseListView.this,
+                    "rightGap",
+                    15.0
+            );
+        }
+        return rightGap;
+    }
+
+    /**
+     * Sets the right gap.
+     * @param rightGap the new right gap
+     */
+    public void setRightGap(double rightGap) {
+        rightGapProperty().set(rightGap);
+    }
+
+    /**
+     * The left gap property.
+     */
+    private StyleableDoubleProperty leftGap;
+
+    /**
+     * Returns the left gap.
+     * @return the left gap
+     */
+    public double getLeftGap() {
+        return leftGapProperty().get();
+    }
+
+    /**
+     * Returns the left gap property.
+     * @return the styleable double property for left gap
+     */
+    public StyleableDoubleProperty leftGapProperty() {
+        if (leftGap == null) {
+            leftGap = new SimpleStyleableDoubleProperty(
+                    StyleableProperties.LEFT_GAP,
+                    BaseListView.this,
+                    "leftGap",
+                    5.0
+            );
+        }
+        return leftGap;
+    }
+
+    /**
+     * Sets the left gap.
+     * @param leftGap the new left gap
+     */
+    public void setLeftGap(double leftGap) {
+        leftGapProperty().set(leftGap);
+    }
+
+
+
+    /*
+     * ============================================= UTILS =============================================================
+     */
+
+
+    /**
+     * Scrolls to the cell containing the specified item.
+     * @param item the item to scroll to
+     */
+    public void scrollToItem(T item) {
+        scrollToItemInternal(item);
+    }
+
+    /**
+     * Replaces the content of the items list with the given items.
+     * A keyed edit script between both lists is computed on a background thread and applied
+     * as fine-grained changes, keeping the cells, the selection and the scroll anchor of the
+     * surviving items. The items list must be modifiable.
+     * Calls made before the previous script was applied are diffed against the items it requested,
+     * and the scripts are applied in order. A script is dropped if the items list was replaced in the meantime.
+     * @param items the new items
+     * @throws IllegalStateException if tail mode is enabled
+     */
+    public void setItemsDiffed(List<? extends T> items) {
+        if (getItems() instanceof RingBufferObservableList<T>) {
+            throw new IllegalStateException("Diffed updates are not supported in tail mode");
+        }
+        final ObservableList<T> target = getItems();
+        final Object[] oldItems = diffTarget == target ? diffBase : target.toArray();
+        final Object[] newItems = items.toArray();
+        final long request = ++diffRequests;
+        diffTarget = target;
+        diffBase = newItems;
+        THREAD_POOL.execute(() -> {
+            ListDiff diff = ListDiff.compute(oldItems, newItems);
+            Platform.runLater(() -> applyDiff(target, oldItems, newItems, diff, request));
+        });
+    }
+
+    /**
+     * Appends an item in tail mode. Safe to call from any thread,
+     * items appended before the next pulse are added with a single change.
+     * @param item the item
+     * @throws IllegalStateException if tail mode is not enabled
+     */
+    public void appendTail(T item) {
+        if (!(getItems() instanceof RingBufferObservableList<T> tail)) {
+            throw new IllegalStateException("Tail mode is not enabled");
+        }
+        tail.offer(item);
+    }
+
+    /**
+     * Returns the index of the first occurrence of an item in the items.
+     * @param item the item
+     * @return the index of the item, or -1 if it is not in the items
+     */
+    public int indexOf(T item) {
+        return itemIndex != null ? itemIndex.indexOf(item) : getItems().indexOf(item);
+    }
+
+    /**
+     * Returns whether the items contain an item.
+     * @param item the item
+     * @return true if the item is in the items
+     */
+    public boolean contains(T item) {
+        return itemIndex != null ? itemIndex.contains(item) : getItems().contains(item);
+    }
+
+    /**
+     * Returns the render model of an item for a two-phase cell, preparing it in the background if needed.
+     * @param cell the cell requesting the model, whose deferred apply is timed while the cell timing is on
+     * @param item the item
+     * @param preparer the function computing the render model, run on a background thread
+     * @param consumer called on the FX thread with the item and its model once prepared, if it was not ready
+     * @param failure called on the FX thread with the item and the exception if the preparation throws
+     * @param <M> the type of the render model
+     * @return the render model if it was already prepared, null otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public <M> M requestModel(NfxCell<T> cell, T item, Function<? super T, ? extends M> preparer, BiConsumer<T, M> consumer, BiConsumer<T, Throwable> failure) {
+        modelPreparers.putIfAbsent(resolveCellType(item), preparer);
+        Object model = preparedModels.get(item);
+        if (model != null) {
+            return (M) model;
+        }
+        PendingModel<T> pending = schedulePreparation(item, preparer);
+        pending.cells.add(cell);
+        pending.consumers.add((BiConsumer<T, Object>) consumer);
+        pending.failures.add(failure);
+        return null;
+    }
+
+    /**
+     * Returns a snapshot of the runtime statistics. Safe to call from any thread.
+     * @return the statistics
+     */
+    public NfxListStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * Registers the runtime statistics in the platform MBean server.
+     * The list view is retained by the MBean server until {@link #unregisterMBean()} is called.
+     * @param name the value of the name key of the object name
+     * @return the object name the statistics are registered under
+     * @throws IllegalStateException if the statistics are already registered or the registration fails
+     */
+    public ObjectName registerMBean(String name) {
+        if (mbeanName != null) {
+            throw new IllegalStateException("Already registered as " + mbeanName);
+        }
+        try {
+            ObjectName objectName = new ObjectName("xss.it.nfx.list:type=NfxListView,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, objectName);
+            mbeanName = objectName;
+            return objectName;
+        }
+        catch (JMException e) {
+            throw new IllegalStateException("Cannot register the statistics of " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters the runtime statistics from the platform MBean server, if they are registered.
+     */
+    public void unregisterMBean() {
+        if (mbeanName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(mbeanName);
+        }
+        catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister " + mbeanName, e);
+        }
+        finally {
+            mbeanName = null;
+        }
+    }
+
+    /**
+     * The debug overlay property.
+     */
+    private BooleanProperty debugOverlay;
+
+    /**
+     * Returns whether the performance debug overlay is shown.
+     * @return true if the overlay is shown
+     */
+    public boolean isDebugOverlay() {
+        return debugOverlayProperty().get();
+    }
+
+    /**
+     * Returns the debug overlay property.
+     * @return the boolean property for the debug overlay
+     */
+    public BooleanProperty debugOverlayProperty() {
+        if (debugOverlay == null) {
+            debugOverlay = new SimpleBooleanProperty(this, "debugOverlay", false) {
+                @Override
+                protected void invalidated() {
+                    updateRebuiltOutline();
+                }
+            };
+        }
+        return debugOverlay;
+    }
+
+    /**
+     * Sets whether the performance debug overlay is shown.
+     * @param debugOverlay true to show the overlay
+     */
+    public void setDebugOverlay(boolean debugOverlay) {
+        debugOverlayProperty().set(debugOverlay);
+    }
+
+    /**
+     * The outline rebuilt cells property.
+     */
+    private BooleanProperty outlineRebuiltCells;
+
+    /**
+     * Returns whether the cells built by a cell factory are outlined while the debug overlay is shown.
+     * @return true if rebuilt cells are outlined
+     */
+    public boolean isOutlineRebuiltCells() {
+        return outlineRebuiltCellsProperty().get();
+    }
+
+    /**
+     * Returns the outline rebuilt cells property.
+     * @return the boolean property for outlining rebuilt cells
+     */
+    public BooleanProperty outlineRebuiltCellsProperty() {
+        if (outlineRebuiltCells == null) {
+            outlineRebuiltCells = new SimpleBooleanProperty(this, "outlineRebuiltCells", false) {
+                @Override
+                protected void invalidated() {
+                    updateRebuiltOutline();
+                }
+            };
+        }
+        return outlineRebuiltCells;
+    }
+
+    /**
+     * Sets whether the cells built by a cell factory are outlined while the debug overlay is shown.
+     * @param outlineRebuiltCells true to outline rebuilt cells
+     */
+    public void setOutlineRebuiltCells(boolean outlineRebuiltCells) {
+        outlineRebuiltCellsProperty().set(outlineRebuiltCells);
+    }
+
+    /**
+     * The cell timing property.
+     */
+    private BooleanProperty cellTiming;
+
+    /**
+     * Returns whether the cell factory and update calls are timed.
+     * @return true if the calls are timed
+     */
+    public boolean isCellTiming() {
+        return cellTimingProperty().get();
+    }
+
+    /**
+     * Returns the cell timing property.
+     * @return the boolean property for the cell timing
+     */
+    public BooleanProperty cellTimingProperty() {
+        if (cellTiming == null) {
+            cellTiming = new SimpleBooleanProperty(this, "cellTiming", false) {
+                @Override
+                protected void invalidated() {
+                    timingCells = get();
+                }
+            };
+        }
+        return cellTiming;
+    }
+
+    /**
+     * Sets whether the cell factory and update calls are timed.
+     * @param cellTiming true to time the calls
+     */
+    public void setCellTiming(boolean cellTiming) {
+        cellTimingProperty().set(cellTiming);
+    }
+
+    /**
+     * The slow cell threshold property.
+     */
+    private ObjectProperty<Duration> slowCellThreshold;
+
+    /**
+     * Returns the duration over which a single cell call is reported as slow.
+     * @return the slow cell threshold
+     */
+    public Duration getSlowCellThreshold() {
+        return slowCellThresholdProperty().get();
+    }
+
+    /**
+     * Returns the slow cell threshold property.
+     * @return the object property for the slow cell threshold
+     */
+    public ObjectProperty<Duration> slowCellThresholdProperty() {
+        if (slowCellThreshold == null) {
+            slowCellThreshold = new SimpleObjectProperty<>(this, "slowCellThreshold", DEFAULT_SLOW_CELL_THRESHOLD) {
+                @Override
+                protected void invalidated() {
+                    Duration threshold = get();
+                    slowCellNanos = threshold == null ? Long.MAX_VALUE : toNanos(threshold);
+                }
+            };
+        }
+        return slowCellThreshold;
+    }
+
+    /**
+     * Sets the duration over which a single cell call is reported as slow.
+     * @param slowCellThreshold the slow cell threshold, null to never report
+     */
+    public void setSlowCellThreshold(Duration slowCellThreshold) {
+        slowCellThresholdProperty().set(slowCellThreshold);
+    }
+
+    /**
+     * The slow cell event handler property.
+     */
+    private ObjectProperty<EventHandler<NfxSlowCellEvent>> onSlowCell;
+
+    /**
+     * Returns the event handler for the slow cell event.
+     * @return the event handler for the slow cell event
+     */
+    public EventHandler<NfxSlowCellEvent> getOnSlowCell() {
+        return onSlowCellProperty().get();
+    }
+
+    /**
+     * Returns the property for the slow cell event handler.
+     * @return the object property for the slow cell event handler
+     */
+    public ObjectProperty<EventHandler<NfxSlowCellEvent>> onSlowCellProperty() {
+        if (onSlowCell == null) {
+            onSlowCell = new ObjectPropertyBase<>() {
+                @Override
+                public Object getBean() {
+                    return BaseListView.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "onSlowCell";
+                }
+
+                @Override
+                protected void invalidated() {
+                    BaseListView.this.setEventHandler(NfxSlowCellEvent.ANY, this.get());
+                }
+            };
+        }
+        return onSlowCell;
+    }
+
+    /**
+     * Sets the event handler for the slow cell event.
+     * @param onSlowCell the event handler for the slow cell event
+     */
+    public void setOnSlowCell(EventHandler<NfxSlowCellEvent> onSlowCell) {
+        onSlowCellProperty().set(onSlowCell);
+    }
+
+    /**
+     * Returns the timing of the cell factory and update calls, by cell class, recorded while the cell timing is on.
+     * @return the timings, factory calls first
+     */
+    public List<NfxCellTiming> getCellTimings() {
+        return cellTimings.snapshot();
+    }
+
+    /**
+     * Drops the recorded cell timings.
+     */
+    public void clearCellTimings() {
+        cellTimings.clear();
+    }
+
+    /**
+     * Returns the selection model for the list view.
+     * @return the selection model
+     */
+    public SelectionModel<T> getSelectionModel() {
+        return selectionModel;
+    }
+
+    /**
+     * Refreshes the list view.
+     * Temporarily sets the items to an empty list and then resets them to trigger a refresh.
+     */
+    public void refresh() {
+        getSelectionModel().clearSelection();
+        onUpdate();
+    }
+
+
+    /*
+     * ========================================= INTERNALS =============================================================
+     */
+
+    /**
+     * Rebinds the cells of the items replaced since the last pulse before laying out.
+     */
+    @Override
+    protected void layoutChildren() {
+        flushRebinds();
+        super.layoutChildren();
+    }
+
+    /**
+     * Updates the selected state of the bound cells after a selection change.
+     * @param c the change of the selected items
+     */
+    private void onSelectionChanged(ListChangeListener.Change<? extends T> c) {
+        publishSizes();
+        if (getRowPainter() != null) {
+            paintRows();
+            return;
+        }
+        while (c.next()){
+            if (c.wasAdded()){
+                for (T t : c.getAddedSubList()) {
+                    Node node = itemToNodeMap.get(t);
+                    if (node instanceof NfxCell<?> cell) {
+                        cell.setSelected(true);
+                    }
+                }
+            }
+            else if (c.wasRemoved()){
+                for (T t : c.getRemoved()) {
+                    Node node = itemToNodeMap.get(t);
+                    //We don't want to unselect a removed cell, no point on doing it , right? :)
+                    if (contains(t)  && node instanceof NfxCell<?> cell) {
+                        cell.setSelected(false);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps the cells in sync with a change of the rendered items.
+     * @param c the change of the rendered items
+     */
+    private void onItemsChanged(ListChangeListener.Change<? extends T> c) {
+        boolean pinned = isFollowTail() && isAtBottom();
+        if (getRowPainter() != null) {
+            onPaintedItemsChanged(c, pinned);
+            return;
+        }
+        boolean structural = false;
+        while (c.next()) {
+            /*
+             * Replacements are deferred to the next layout pass, the cell is kept and rebound then
+             */
+            if (isUpdateCoalescing() && c.wasReplaced() && c.getRemovedSize() == c.getAddedSize()) {
+                List<? extends T> removed = c.getRemoved();
+                List<? extends T> added = c.getAddedSubList();
+                for (int i = 0; i < removed.size(); i++) {
+                    T item = removed.get(i);
+                    forgetModel(item);
+                    if (getSelectionModel().isSelected(item)){
+                        getSelectionModel().getSelectedItems().remove(item);
+                    }
+                    scheduleRebind(item, added.get(i));
+                }
+                continue;
+            }
+            structural = true;
+            /*
+             * Cells are bound to items, a permutation only moves them around
+             */
+            if (c.wasPermutated()) {
+                continue;
+            }
+            if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    T item = c.getList().get(i);
+                    forgetModel(item);
+                    NfxCell<T> cell = getBoundCell(item);
+                    if (cell != null) {
+                        updateCell(cell, item);
+                    }
+                }
+                continue;
+            }
+            if (c.wasRemoved()) {
+                for (T item : c.getRemoved()) {
+                    forgetModel(item);
+                    /*
+                     * Remove if its selected
+                     */
+                    if (getSelectionModel().isSelected(item)){
+                        getSelectionModel().getSelectedItems().remove(item);
+                    }
+                    T source = pendingRebinds.remove(item);
+                    detachedItems.add(source != null ? source : item);
+                }
+            }
+            if (c.wasAdded() && !detachedItems.isEmpty()) {
+                for (T item : c.getAddedSubList()) {
+                    detachedItems.remove(item);
+                }
+            }
+            if (c.wasAdded() && !pendingRebinds.isEmpty()) {
+                /*
+                 * An item added back keeps its own cell, the item that replaced it gets a new one
+                 */
+                for (T item : c.getAddedSubList()) {
+                    pendingRebinds.values().remove(item);
+                }
+            }
+            setCount(getItems().size());
+        }
+        if (!applyingDiff) {
+            if (structural) {
+                releaseDetachedCells();
+                if (pinned) {
+                    scrollToBottom();
+                }
+                else {
+                    updateCells();
+                }
+            }
+            else if (!pendingRebinds.isEmpty()) {
+                requestLayout();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items added and removed by a change, reading it again from the start.
+     * @param c the change
+     * @return the number of items added, removed, updated or permuted
+     */
+    private static int changeSize(ListChangeListener.Change<?> c) {
+        c.reset();
+        int size = 0;
+        while (c.next()) {
+            size += c.wasPermutated() || c.wasUpdated() ? c.getTo() - c.getFrom() : c.getAddedSize() + c.getRemovedSize();
+        }
+        return size;
+    }
+
+    /**
+     * Handles changes to the selection mode.
+     * @param selectionMode the new selection mode
+     */
+    private void handleSelectionMode(SelectionModel.Mode selectionMode) {
+        Objects.requireNonNull(selectionMode);
+        selectionModel.setSelectionMode(selectionMode);
+    }
+
+    /**
+     * Moves the key event filters managing selection mode changes from the previous scene to the current one,
+     * so a list view moved between scenes is registered once and only on its current scene.
+     * @param oldScene the previous scene, or null
+     * @param newScene the current scene, or null
+     */
+    private void moveKeyEvents(Scene oldScene, Scene newScene) {
+        if (oldScene != null) {
+            oldScene.removeEventFilter(KeyEvent.KEY_PRESSED, weakKeyPressedEvent);
+            oldScene.removeEventFilter(KeyEvent.KEY_RELEASED, weakKeyReleasedEvent);
+        }
+        if (newScene != null) {
+            newScene.addEventFilter(KeyEvent.KEY_PRESSED, weakKeyPressedEvent);
+            newScene.addEventFilter(KeyEvent.KEY_RELEASED, weakKeyReleasedEvent);
+        }
     }
 
     /**
-     * Returns the property for the edit start event handler.
-     * @return the object property for the edit start event handler
+     * Handles the resizing logic of the virtual flow.
      */
-    public ObjectProperty<EventHandler<NfxEditEvent<?>>> onEditStartProperty() {
-        if (onEditStart == null) {
-            onEditStart = new ObjectPropertyBase<>() {
-                @Override
-                public Object getBean() {
-                    return BaseListView.this;
-                }
+    private void handleResize() {
+        ResizeEvent event = new ResizeEvent();
+        long created = statistics.getCellsCreated();
+        event.begin();
+        double availableWidth = getWidth() - getRightGap()- getLeftGap();
+        int calculatedCellsPerRow = ListLayout.cellsPerRow(availableWidth, minCellWidthBreakPoint.get(), maxCellsPerRow.get());
+        if (currentCellsPerRow.get() != calculatedCellsPerRow) {
+            currentCellsPerRow.set(calculatedCellsPerRow);
+        }
+        updateCells();
+        event.end();
+        if (event.shouldCommit()) {
+            event.cellsPerRow = calculatedCellsPerRow;
+            event.rowsVisible = visibleRows;
+            event.cellsCreated = (int) (statistics.getCellsCreated() - created);
+            event.commit();
+        }
+    }
 
-                @Override
-                public String getName() {
-                    return "onEditStart";
+    /**
+     * Updates the cells in the virtual flow.
+     */
+    private void updateCells() {
+        if (applyingDiff) {
+            return;
+        }
+        UpdateCellsEvent event = new UpdateCellsEvent();
+        long created = statistics.getCellsCreated();
+        event.begin();
+        long start = System.nanoTime();
+        if (getRowPainter() != null) {
+            paintRows();
+        }
+        else {
+            layoutCells();
+        }
+        statistics.cellsUpdated(System.nanoTime() - start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.rowsVisible = visibleRows;
+            event.cellsCreated = (int) (statistics.getCellsCreated() - created);
+            event.commit();
+        }
+        publishSizes();
+    }
+
+    /**
+     * Lays out the cells of the visible items, binding cells to the items entering the viewport.
+     */
+    private void layoutCells() {
+        flushRebinds();
+        double availableWidth = getWidth() - getRightGap()- getLeftGap();
+        int cellsPerRow = currentCellsPerRow.get();
+        double cellWidth = availableWidth / cellsPerRow;
+        double cellHeight = getCellHeight();
+
+        List<T> items = getRenderedItems();
+        int rowCount = ListLayout.rowCount(items.size(), cellsPerRow);
+        double contentHeight = rowCount * cellHeight;
+
+        contentPane.setMinHeight(contentHeight);
+        contentPane.setPrefHeight(contentHeight);
+
+        int firstVisibleRow = ListLayout.firstVisibleRow(getVvalue(), contentHeight, getHeight(), cellHeight);
+        int lastVisibleRow = ListLayout.lastVisibleRow(firstVisibleRow, getHeight(), cellHeight, rowCount);
+        visibleRows = Math.max(0, lastVisibleRow - firstVisibleRow);
+        firstVisibleIndex = Math.min(firstVisibleRow * cellsPerRow, items.size());
+        lastVisibleIndex = Math.min(lastVisibleRow * cellsPerRow, items.size());
+
+        /*
+         * Release the cells leaving the viewport first, so the items entering it can rebind them.
+         * Released cells stay in the content pane until the end of the pass, a cell rebound in the same
+         * pass is then only moved, without being removed, added back and styled again.
+         */
+        keptCells.clear();
+        for (int index = firstVisibleRow * cellsPerRow; index < Math.min(lastVisibleRow * cellsPerRow, items.size()); index++) {
+            Node node = itemToNodeMap.get(items.get(index));
+            if (node != null) {
+                keptCells.add(node);
+            }
+        }
+        for (int i = 0; i < visibleCells.size(); i++) {
+            Node cell = visibleCells.get(i);
+            if (!keptCells.contains(cell)) {
+                recycleCell(cell);
+            }
+        }
+
+        nextVisibleCells.clear();
+        for (int row = firstVisibleRow; row < lastVisibleRow; row++) {
+            for (int col = 0; col < cellsPerRow; col++) {
+                int index = row * cellsPerRow + col;
+                if (index >= items.size()) {
+                    break;
                 }
+                T item = items.get(index);
+                Node cellNode = getCellNode(item);
 
-                @Override
-                protected void invalidated() {
-                    BaseListView.this.setEventHandler(NfxEditEvent.NFX_EDIT_START, this.get());
+                cellNode.resize(cellWidth, cellHeight);
+                cellNode.relocate(ListLayout.cellX(index, cellsPerRow, cellWidth, getLeftGap()), ListLayout.cellY(index, cellsPerRow, cellHeight));
+
+                nextVisibleCells.add(cellNode);
+                keptCells.add(cellNode);
+                if (cellNode.getParent() != contentPane) {
+                    if (!staleItems.isEmpty() && staleItems.remove(item) && cellNode instanceof NfxCell<?>) {
+                        updateCell(getCell(item), item);
+                    }
+                    contentPane.getChildren().add(cellNode);
                 }
-            };
+            }
         }
-        return onEditStart;
+
+        for (int i = 0; i < visibleCells.size(); i++) {
+            Node cell = visibleCells.get(i);
+            if (!keptCells.contains(cell)) {
+                contentPane.getChildren().remove(cell);
+            }
+        }
+        keptCells.clear();
+        visibleCells.clear();
+        for (int i = 0; i < nextVisibleCells.size(); i++) {
+            visibleCells.add(nextVisibleCells.get(i));
+        }
+        nextVisibleCells.clear();
+
+        prefetchModels(items, firstVisibleRow * cellsPerRow, lastVisibleRow * cellsPerRow, cellsPerRow);
     }
 
     /**
-     * Sets the event handler for the edit start event.
-     * @param onEditStart the event handler for the edit start event
+     * Paints the visible rows into the canvas.
+     * Only the rows intersecting the viewport are visited, and the canvas never exceeds the viewport,
+     * so the cost does not depend on the number of items.
      */
-    public void setOnEditStart(EventHandler<NfxEditEvent<?>> onEditStart) {
-        onEditStartProperty().set(onEditStart);
+    private void paintRows() {
+        Canvas canvas = getCanvas();
+        double viewportWidth = Math.max(0, getViewportBounds().getWidth());
+        double viewportHeight = Math.max(0, getViewportBounds().getHeight());
+        double cellHeight = getCellHeight();
+        int cellsPerRow = currentCellsPerRow.get();
+        double cellWidth = (getWidth() - getRightGap() - getLeftGap()) / cellsPerRow;
+
+        List<T> items = getRenderedItems();
+        double contentHeight = resizeContent();
+        double top = Math.max(0, getVvalue() * (contentHeight - viewportHeight));
+
+        canvas.setWidth(viewportWidth);
+        canvas.setHeight(viewportHeight);
+        canvas.relocate(0, top);
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, viewportWidth, viewportHeight);
+        if (cellHeight <= 0 || items.isEmpty()) {
+            return;
+        }
+
+        NfxRowPainter<T> painter = getRowPainter();
+        int firstRow = (int) (top / cellHeight);
+        int lastRow = (int) Math.ceil((top + viewportHeight) / cellHeight);
+        visibleRows = Math.max(0, Math.min(lastRow, (items.size() + cellsPerRow - 1) / cellsPerRow) - firstRow);
+        firstVisibleIndex = Math.min(firstRow * cellsPerRow, items.size());
+        lastVisibleIndex = Math.min(Math.max(firstRow, lastRow) * cellsPerRow, items.size());
+        for (int row = firstRow; row < lastRow; row++) {
+            for (int col = 0; col < cellsPerRow; col++) {
+                int index = row * cellsPerRow + col;
+                if (index >= items.size()) {
+                    return;
+                }
+                T item = items.get(index);
+                painter.paint(gc, item, index, col * cellWidth + getLeftGap(), row * cellHeight - top,
+                        cellWidth, cellHeight, getSelectionModel().isSelected(item));
+            }
+        }
     }
 
     /**
-     * Returns the event handler for the edit cancel event.
-     * @return the event handler for the edit cancel event
+     * Returns the canvas, adding it to the content pane if needed.
+     * @return the canvas
      */
-    public EventHandler<NfxEditEvent<?>> getOnEditCancel() {
-        return onEditCancelProperty().get();
+    private Canvas getCanvas() {
+        if (canvas == null) {
+            canvas = new Canvas();
+            canvas.addEventHandler(MouseEvent.MOUSE_CLICKED, this::onCanvasClicked);
+        }
+        if (canvas.getParent() != contentPane) {
+            contentPane.getChildren().add(canvas);
+        }
+        return canvas;
     }
 
     /**
-     * Returns the property for the edit cancel event handler.
-     * @return the object property for the edit cancel event handler
+     * Returns the rendered index of the item painted at a point of the canvas.
+     * @param x the x coordinate in the canvas
+     * @param y the y coordinate in the canvas
+     * @return the rendered index, or -1 if no item is painted there
      */
-    public ObjectProperty<EventHandler<NfxEditEvent<?>>> onEditCancelProperty() {
-        if (onEditCancel == null) {
-            onEditCancel = new ObjectPropertyBase<>() {
-                @Override
-                public Object getBean() {
-                    return BaseListView.this;
-                }
+    private int hitTest(double x, double y) {
+        int cellsPerRow = currentCellsPerRow.get();
+        double cellWidth = (getWidth() - getRightGap() - getLeftGap()) / cellsPerRow;
+        double contentY = canvas.getLayoutY() + y;
+        double contentX = x - getLeftGap();
+        if (contentX < 0 || contentY < 0 || cellWidth <= 0) {
+            return -1;
+        }
+        int col = (int) (contentX / cellWidth);
+        int index = (int) (contentY / getCellHeight()) * cellsPerRow + col;
+        return col < cellsPerRow && index < getRenderedItems().size() ? index : -1;
+    }
 
-                @Override
-                public String getName() {
-                    return "onEditCancel";
-                }
+    /**
+     * Handles a click on the canvas, selecting the item under the mouse the same way a cell does.
+     * @param event the mouse event
+     */
+    private void onCanvasClicked(MouseEvent event) {
+        int index = hitTest(event.getX(), event.getY());
+        if (index < 0) {
+            return;
+        }
+        T item = getRenderedItems().get(index);
+        if (!getSelectionModel().isSelected(item)) {
+            getSelectionModel().select(item);
+        }
+        else if (isAllowUnselectOnClick()) {
+            if (event.isControlDown()) {
+                getSelectionModel().unselect(item);
+            }
+            else {
+                getSelectionModel().getSelectedItems().clear();
+                getSelectionModel().select(item);
+            }
+        }
+    }
 
-                @Override
-                protected void invalidated() {
-                    BaseListView.this.setEventHandler(NfxEditEvent.NFX_EDIT_CANCEL, this.get());
+    /**
+     * Handles a change of the items when the rows are painted.
+     * There are no cells to keep in sync, only the selection of the removed items is dropped before repainting.
+     * @param c the change
+     * @param pinned whether the view was scrolled to the bottom in tail mode
+     */
+    private void onPaintedItemsChanged(ListChangeListener.Change<? extends T> c, boolean pinned) {
+        while (c.next()) {
+            if (c.wasRemoved() && !getSelectionModel().getSelectedItems().isEmpty()) {
+                for (T item : c.getRemoved()) {
+                    if (getSelectionModel().isSelected(item)) {
+                        getSelectionModel().getSelectedItems().remove(item);
+                    }
                 }
-            };
+            }
+        }
+        setCount(getItems().size());
+        if (applyingDiff) {
+            return;
+        }
+        if (pinned) {
+            scrollToBottom();
+        }
+        else {
+            paintRows();
         }
-        return onEditCancel;
     }
 
     /**
-     * Sets the event handler for the edit cancel event.
-     * @param onEditCancel the event handler for the edit cancel event
+     * Returns the node associated with the given item.
+     * @param item the item for which to get the node
+     * @return the node associated with the item
      */
-    public void setOnEditCancel(EventHandler<NfxEditEvent<?>> onEditCancel) {
-        onEditCancelProperty().set(onEditCancel);
+    private Node getCellNode(T item) {
+        Node cellNode = itemToNodeMap.get(item);
+        if (cellNode == null) {
+            Object type = resolveCellType(item);
+            NfxCellPool<T> shared = getCellPool();
+            Deque<NfxCell<T>> pool = cellPools.get(type);
+            NfxCell<T> recycled = shared != null ? shared.acquire(sharedPoolKey(type), parent) : pool == null ? null : pool.poll();
+            if (recycled != null) {
+                statistics.cellReused();
+                recycled.pseudoClassStateChanged(PSEUDO_CLASS_REBUILT, false);
+                updateCell(recycled, item);
+                cellTypes.put(recycled, type);
+                cellNode = recycled;
+            }
+            else {
+                cellNode = createCell(item, type);
+                cellTypes.put(cellNode, type);
+            }
+            itemToNodeMap.put(item, cellNode);
+            observeItem(item);
+            prewarmCells(type);
+        }
+        return cellNode;
     }
 
-    /*
-     * =================================== STYLEABLES ==================================================================
+    /**
+     * Tops up the pool of every known cell type.
+     * The known types are the keys of the cell factories, and the default type without a cell type resolver.
      */
+    private void prewarmCells() {
+        if (getPrewarmSize() <= 0) {
+            return;
+        }
+        if (getCellTypeResolver() == null) {
+            prewarmCells(null);
+        }
+        if (cellFactories != null) {
+            for (Object type : cellFactories.keySet()) {
+                prewarmCells(type);
+            }
+        }
+    }
 
     /**
-     * The cell height property.
+     * Builds cells of a type on the prewarm executor until its pool holds the prewarm size.
+     * @param type the type key
      */
-    private StyleableDoubleProperty cellHeight;
+    private void prewarmCells(Object type) {
+        int target = getPrewarmSize();
+        if (target <= 0) {
+            return;
+        }
+        NfxCellPool<T> shared = getCellPool();
+        Deque<NfxCell<T>> pool = cellPools.get(type);
+        int idle = shared != null ? shared.size(sharedPoolKey(type)) : pool == null ? 0 : pool.size();
+        int missing = target - idle - prewarmingCells.getOrDefault(type, 0);
+        if (missing <= 0) {
+            return;
+        }
+        Callback<NfxListView<T>, NfxCell<T>> factory = getCellFactory(type);
+        Executor executor = getPrewarmExecutor() != null ? getPrewarmExecutor() : PREWARM_POOL;
+        int generation = prewarmGeneration;
+        prewarmingCells.merge(type, missing, Integer::sum);
+        for (int i = 0; i < missing; i++) {
+            executor.execute(() -> {
+                try {
+                    CreateCellEvent event = new CreateCellEvent();
+                    event.begin();
+                    long start = System.nanoTime();
+                    NfxCell<T> cell = factory.call(parent);
+                    long nanos = System.nanoTime() - start;
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.cellType = type == null ? null : String.valueOf(type);
+                        event.cellClass = cell.getClass().getName();
+                        event.commit();
+                    }
+                    Platform.runLater(() -> onCellPrewarmed(type, cell, generation, nanos));
+                }
+                catch (RuntimeException e) {
+                    Platform.runLater(() -> {
+                        onCellPrewarmed(type, null, generation, 0);
+                        throw e;
+                    });
+                }
+            });
+        }
+    }
 
     /**
-     * Returns the cell height.
-     * @return the cell height
+     * Hands a cell built ahead of time to the pool of its type.
+     * The factory call is recorded here while the cell timing is on, since the timings are only touched on the FX thread.
+     * @param type the type key
+     * @param cell the cell, or null if the factory failed
+     * @param generation the reset generation the cell was built for
+     * @param nanos the duration of the factory call
      */
-    public double getCellHeight() {
-        return cellHeightProperty().get();
+    private void onCellPrewarmed(Object type, NfxCell<T> cell, int generation, long nanos) {
+        if (cell != null) {
+            statistics.cellCreated();
+            if (timingCells) {
+                recordCellCall(NfxCellTiming.Phase.FACTORY, cell, type, -1, nanos);
+            }
+        }
+        if (generation != prewarmGeneration) {
+            return;
+        }
+        prewarmingCells.computeIfPresent(type, (key, count) -> count > 1 ? count - 1 : null);
+        if (cell != null) {
+            cellTypes.put(cell, type);
+            poolCell(cell);
+        }
     }
 
     /**
-     * Sets the cell height.
-     * @param value the new cell height
+     * Prepares the render model of an item on the prepare pool, unless it is already being prepared.
+     * @param item the item
+     * @param preparer the function computing the render model
+     * @return the pending preparation
      */
-    public void setCellHeight(double value) {
-        cellHeightProperty().set(value);
+    private PendingModel<T> schedulePreparation(T item, Function<? super T, ?> preparer) {
+        PendingModel<T> pending = pendingModels.get(item);
+        if (pending == null) {
+            PendingModel<T> created = new PendingModel<>();
+            pendingModels.put(item, created);
+            PREPARE_POOL.execute(() -> {
+                try {
+                    Object model = preparer.apply(item);
+                    Platform.runLater(() -> onModelPrepared(item, created, model));
+                }
+                catch (RuntimeException e) {
+                    Platform.runLater(() -> onModelFailed(item, created, e));
+                }
+            });
+            pending = created;
+        }
+        return pending;
     }
 
     /**
-     * Returns the cell height property.
-     * @return the styleable double property for cell height
+     * Caches a prepared render model and hands it to the cells waiting for it.
+     * The model is dropped if the item changed or the list view was reset while it was prepared.
+     * @param item the item
+     * @param pending the preparation that completed
+     * @param model the render model
      */
-    public StyleableDoubleProperty cellHeightProperty() {
-        if (cellHeight == null) {
-            cellHeight = new SimpleStyleableDoubleProperty(
-                    StyleableProperties.CELL_HEIGHT,
-                    BaseListView.this,
-                    "cellHeight",
-                    50.0
-            );
+    private void onModelPrepared(T item, PendingModel<T> pending, Object model) {
+        if (!pendingModels.remove(item, pending)) {
+            return;
+        }
+        if (model != null) {
+            preparedModels.put(item, model);
+        }
+        for (int i = 0; i < pending.consumers.size(); i++) {
+            BiConsumer<T, Object> consumer = pending.consumers.get(i);
+            NfxCell<T> cell = pending.cells.get(i);
+            if (!timingCells || cell.getItem() != item) {
+                consumer.accept(item, model);
+                continue;
+            }
+            long start = System.nanoTime();
+            consumer.accept(item, model);
+            recordCellCall(NfxCellTiming.Phase.UPDATE, cell, item, System.nanoTime() - start);
         }
-        return cellHeight;
     }
 
     /**
-     * The minimum cell width property.
+     * Tells the cells waiting for a render model that it could not be prepared, then rethrows the exception
+     * so it still reaches the uncaught exception handler of the FX thread.
+     * @param item the item
+     * @param pending the preparation that failed
+     * @param error the exception thrown by the preparer
      */
-    private StyleableDoubleProperty minCellWidthBreakPoint;
+    private void onModelFailed(T item, PendingModel<T> pending, RuntimeException error) {
+        if (pendingModels.remove(item, pending)) {
+            for (BiConsumer<T, Throwable> failure : pending.failures) {
+                failure.accept(item, error);
+            }
+        }
+        throw error;
+    }
 
     /**
-     * Returns the minimum cell width.
-     * @return the minimum cell width
+     * Prepares the render models of the items in the overscan rows around the viewport.
+     * @param items the rendered items
+     * @param fromIndex the first visible index
+     * @param toIndex the index after the last visible one
+     * @param cellsPerRow the number of cells per row
      */
-    public double getMinCellWidthBreakPoint() {
-        return minCellWidthBreakPointProperty().get();
+    private void prefetchModels(List<T> items, int fromIndex, int toIndex, int cellsPerRow) {
+        int overscan = getOverscan();
+        if (modelPreparers.isEmpty() || overscan <= 0) {
+            return;
+        }
+        int start = Math.max(0, fromIndex - overscan * cellsPerRow);
+        int end = Math.min(items.size(), toIndex + overscan * cellsPerRow);
+        for (int index = start; index < end; index++) {
+            if (index == fromIndex) {
+                index = toIndex;
+                if (index >= end) {
+                    break;
+                }
+            }
+            T item = items.get(index);
+            if (!preparedModels.containsKey(item) && !pendingModels.containsKey(item)) {
+                Function<? super T, ?> preparer = modelPreparers.get(resolveCellType(item));
+                if (preparer != null) {
+                    schedulePreparation(item, preparer);
+                }
+            }
+        }
     }
 
     /**
-     * Sets the minimum cell width.
-     * @param value the new minimum cell width
+     * Drops the render model of an item that changed.
+     * @param item the item
      */
-    public void setMinCellWidthBreakPoint(double value) {
-        minCellWidthBreakPointProperty().set(value);
+    private void forgetModel(T item) {
+        if (!preparedModels.isEmpty() || !pendingModels.isEmpty()) {
+            preparedModels.remove(item);
+            pendingModels.remove(item);
+        }
     }
 
     /**
-     * Returns the minimum cell width property.
-     * @return the styleable double property for minimum cell width
+     * Turns the rebuilt outline on or off, clearing the pseudo-class from the cells held when it is turned off.
+     * Cells parked in a shared pool may have been outlined by another list view, they are cleared when acquired.
      */
-    public StyleableDoubleProperty minCellWidthBreakPointProperty() {
-        if (minCellWidthBreakPoint == null) {
-            minCellWidthBreakPoint = new SimpleStyleableDoubleProperty(
-                    StyleableProperties.MIN_CELL_WIDTH_BREAK_POINT,
-                    BaseListView.this,
-                    "minCellWidthBreakPoint",
-                    100.0
-            );
+    private void updateRebuiltOutline() {
+        boolean outline = isDebugOverlay() && isOutlineRebuiltCells();
+        if (outline == outlineRebuilt) {
+            return;
+        }
+        outlineRebuilt = outline;
+        if (!outline) {
+            itemToNodeMap.values().forEach(node -> node.pseudoClassStateChanged(PSEUDO_CLASS_REBUILT, false));
+            cellPools.values().forEach(pool -> pool.forEach(cell -> cell.pseudoClassStateChanged(PSEUDO_CLASS_REBUILT, false)));
         }
-        return minCellWidthBreakPoint;
     }
 
     /**
-     * The maximum cells per row property.
+     * Returns the index of the first item shown by the last layout pass.
+     * @return the index of the first visible item
      */
-    private StyleableIntegerProperty maxCellsPerRow;
+    int getFirstVisibleIndex() {
+        return firstVisibleIndex;
+    }
 
     /**
-     * Returns the maximum cells per row.
-     * @return the maximum cells per row
+     * Returns the index after the last item shown by the last layout pass.
+     * @return the index after the last visible item
      */
-    public int getMaxCellsPerRow() {
-        return maxCellsPerRowProperty().get();
+    int getLastVisibleIndex() {
+        return lastVisibleIndex;
     }
 
     /**
-     * Returns the maximum cells per row property.
-     * @return the styleable integer property for maximum cells per row
+     * Returns the number of cells bound to items.
+     * @return the number of bound cells
      */
-    public StyleableIntegerProperty maxCellsPerRowProperty() {
-        if (maxCellsPerRow == null) {
-            maxCellsPerRow = new SimpleStyleableIntegerProperty(
-                    StyleableProperties.MAX_CELLS_PER_ROW,
-                    BaseListView.this,
-                    "maxCellsPerRow",
-                    12
-            );
-        }
-        return maxCellsPerRow;
+    int getBoundCellCount() {
+        return itemToNodeMap.size();
     }
 
     /**
-     * Sets the maximum cells per row.
-     * @param maxCellsPerRow the new maximum cells per row
+     * Returns the number of idle cells, in the shared cell pool if set, otherwise in the pools of this list view.
+     * @return the number of pooled cells
      */
-    public void setMaxCellsPerRow(int maxCellsPerRow) {
-        maxCellsPerRowProperty().set(maxCellsPerRow);
+    int getPooledCellCount() {
+        NfxCellPool<T> shared = getCellPool();
+        if (shared != null) {
+            return shared.size();
+        }
+        int pooled = 0;
+        for (Deque<NfxCell<T>> pool : cellPools.values()) {
+            pooled += pool.size();
+        }
+        return pooled;
     }
 
-
     /**
-     * The right gap property.
+     * Returns the distance scrolled from the top of the content.
+     * @return the scroll offset in pixels
      */
-    private StyleableDoubleProperty rightGap;
+    double getScrollOffset() {
+        return getVvalue() * Math.max(0, contentPane.getHeight() - getViewportBounds().getHeight());
+    }
 
     /**
-     * Returns the right gap.
-     * @return the right gap
+     * Returns the live runtime statistics.
+     * @return the statistics
      */
-    public double getRightGap() {
-        return rightGapProperty().get();
+    ListStatistics getLiveStatistics() {
+        return statistics;
     }
 
     /**
-     * Returns the right gap property.
-     * @return the styleable double property for right gap
+     * Publishes the current number of cells, selected items and items to the statistics.
      */
-    public StyleableDoubleProperty rightGapProperty() {
-        if (rightGap == null) {
-            rightGap = new SimpleStyleableDoubleProperty(
-                    StyleableProperties.RIGHT_GAP,
-                    BaseListView.this,
-                    "rightGap",
-                    15.0
-            );
-        }
-        return rightGap;
+    private void publishSizes() {
+        statistics.sizes(getBoundCellCount() + getPooledCellCount(), selectionModel.getSelectedItems().size(), getItems().size());
     }
 
     /**
-     * Sets the right gap.
-     * @param rightGap the new right gap
+     * Returns the type key of an item.
+     * @param item the item
+     * @return the type key, or null if no cell type resolver is set
      */
-    public void setRightGap(double rightGap) {
-        rightGapProperty().set(rightGap);
+    private Object resolveCellType(T item) {
+        Callback<T, Object> resolver = getCellTypeResolver();
+        return resolver == null ? null : resolver.call(item);
     }
 
     /**
-     * The left gap property.
+     * Unbinds a cell that left the viewport from its item and returns it to the pool of its type.
+     * A cell being edited stays bound to its item.
+     * @param node the cell
      */
-    private StyleableDoubleProperty leftGap;
+    @SuppressWarnings("unchecked")
+    private void recycleCell(Node node) {
+        if (!(node instanceof NfxCell<?> cell) || cell.isEditing()) {
+            return;
+        }
+        T item = (T) cell.getItem();
+        if (itemToNodeMap.get(item) != node) {
+            return;
+        }
+        itemToNodeMap.remove(item);
+        unobserveItem(item);
+        staleItems.remove(item);
+        poolCell(cell);
+    }
 
     /**
-     * Returns the left gap.
-     * @return the left gap
+     * Returns a cell to the pool of the type it was created for, the shared pool if one is set.
+     * The cell is unbound from its item and unselected in both cases.
+     * @param cell the cell
      */
-    public double getLeftGap() {
-        return leftGapProperty().get();
+    @SuppressWarnings("unchecked")
+    private void poolCell(NfxCell<?> cell) {
+        NfxCellPool<T> shared = getCellPool();
+        if (shared != null) {
+            shared.release(sharedPoolKey(cellTypes.remove(cell)), (NfxCell<T>) cell);
+        }
+        else {
+            cell.unbind();
+            cellPools.computeIfAbsent(cellTypes.get(cell), type -> new ArrayDeque<>()).push((NfxCell<T>) cell);
+        }
     }
 
     /**
-     * Returns the left gap property.
-     * @return the styleable double property for left gap
+     * Forgets a cell that is discarded instead of pooled, unbinding it so it does not retain its item.
+     * @param node the cell, already removed from the content pane
      */
-    public StyleableDoubleProperty leftGapProperty() {
-        if (leftGap == null) {
-            leftGap = new SimpleStyleableDoubleProperty(
-                    StyleableProperties.LEFT_GAP,
-                    BaseListView.this,
-                    "leftGap",
-                    5.0
-            );
+    private void dropCell(Node node) {
+        cellTypes.remove(node);
+        if (node instanceof NfxCell<?> cell) {
+            cell.unbind();
         }
-        return leftGap;
     }
 
     /**
-     * Sets the left gap.
-     * @param leftGap the new left gap
+     * Returns the key of a type in the shared cell pool.
+     * Cells are keyed by the factory that built them as well, so a list view whose factory changed
+     * never rebinds cells built by the previous one, which stay available to the views still using it.
+     * The key is kept until the next reset, which happens on every factory change.
+     * @param type the type key
+     * @return the key in the shared cell pool
      */
-    public void setLeftGap(double leftGap) {
-        leftGapProperty().set(leftGap);
+    private SharedPoolKey sharedPoolKey(Object type) {
+        SharedPoolKey key = sharedPoolKeys.get(type);
+        if (key == null) {
+            key = new SharedPoolKey(type, getCellFactory(type));
+            sharedPoolKeys.put(type, key);
+        }
+        return key;
     }
 
-
-
-    /*
-     * ============================================= UTILS =============================================================
+    /**
+     * Returns the bound cells to the shared cell pool, if one is set, before a reset drops them.
+     * A cell is only released if the factory of its type is unchanged, cells built by a previous factory
+     * are discarded, and a cell being edited is discarded as well.
+     * @return the number of released cells
      */
-
+    @SuppressWarnings("unchecked")
+    private int releaseBoundCells() {
+        NfxCellPool<T> shared = getCellPool();
+        if (shared == null) {
+            return 0;
+        }
+        int released = 0;
+        for (Node node : itemToNodeMap.values()) {
+            SharedPoolKey key = sharedPoolKeys.get(cellTypes.get(node));
+            if (node instanceof NfxCell<?> cell && !cell.isEditing() && key != null
+                    && key.factory() == getCellFactory(key.type()) && shared.release(key, (NfxCell<T>) cell)) {
+                released++;
+            }
+        }
+        return released;
+    }
 
     /**
-     * Scrolls to the cell containing the specified item.
-     * @param item the item to scroll to
+     * Returns the cell currently bound to the given item, without creating one.
+     * @param item the item
+     * @return the bound cell, or null if the item has no cell
      */
-    public void scrollToItem(T item) {
-        scrollToItemInternal(item);
+    @SuppressWarnings("unchecked")
+    private NfxCell<T> getBoundCell(T item) {
+        return itemToNodeMap.get(item) instanceof NfxCell<?> cell ? (NfxCell<T>) cell : null;
     }
 
     /**
-     * Returns the selection model for the list view.
-     * @return the selection model
+     * Releases the cells of the items that were removed from the list.
      */
-    public SelectionModel<T> getSelectionModel() {
-        return selectionModel;
+    private void releaseDetachedCells() {
+        for (T item : detachedItems) {
+            unobserveItem(item);
+            Node node = itemToNodeMap.remove(item);
+            if (node != null) {
+                contentPane.getChildren().remove(node);
+                visibleCells.remove(node);
+                if (node instanceof NfxCell<?> cell && !cell.isEditing()) {
+                    poolCell(cell);
+                }
+                else {
+                    dropCell(node);
+                }
+            }
+        }
+        detachedItems.clear();
     }
 
     /**
-     * Refreshes the list view.
-     * Temporarily sets the items to an empty list and then resets them to trigger a refresh.
+     * Records that an item was replaced, so its cell is handed over to the new item on the next flush.
+     * @param item the replaced item
+     * @param replacement the new item
      */
-    public void refresh() {
-        getSelectionModel().clearSelection();
-        onUpdate();
+    private void scheduleRebind(T item, T replacement) {
+        T source = pendingRebinds.remove(item);
+        if (source == null) {
+            source = item;
+        }
+        if (!Objects.equals(source, replacement)) {
+            pendingRebinds.put(replacement, source);
+        }
     }
 
-
-    /*
-     * ========================================= INTERNALS =============================================================
+    /**
+     * Hands the cells of the replaced items over to their replacements.
+     * A visible cell is updated right away, an off-screen one is marked stale.
      */
+    private void flushRebinds() {
+        if (pendingRebinds.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<T, T> entry : pendingRebinds.entrySet()) {
+            T item = entry.getKey();
+            T source = entry.getValue();
+            unobserveItem(source);
+            Node node = itemToNodeMap.remove(source);
+            if (node == null) {
+                continue;
+            }
+            if (itemToNodeMap.containsKey(item)) {
+                contentPane.getChildren().remove(node);
+                visibleCells.remove(node);
+                dropCell(node);
+                continue;
+            }
+            itemToNodeMap.put(item, node);
+            observeItem(item);
+            if (node.getParent() == contentPane && node instanceof NfxCell<?>) {
+                updateCell(getCell(item), item);
+            }
+            else {
+                staleItems.add(item);
+            }
+        }
+        pendingRebinds.clear();
+    }
 
     /**
-     * Handles changes to the selection mode.
-     * @param selectionMode the new selection mode
+     * Registers an observer on the extracted properties of an item, if an extractor is set.
+     * @param item the item
      */
-    private void handleSelectionMode(SelectionModel.Mode selectionMode) {
-        Objects.requireNonNull(selectionMode);
-        selectionModel.setSelectionMode(selectionMode);
+    private void observeItem(T item) {
+        Callback<T, Observable[]> extractor = getExtractor();
+        if (extractor == null || item == null) {
+            return;
+        }
+        Observable[] observables = extractor.call(item);
+        if (observables == null || observables.length == 0) {
+            return;
+        }
+        ItemObserver<T> observer = new ItemObserver<>(item, observables, this::onItemInvalidated);
+        ItemObserver<T> previous = itemObservers.put(item, observer);
+        if (previous != null) {
+            previous.dispose();
+        }
     }
 
     /**
-     * Initializes key event filters to manage selection mode changes.
+     * Removes the observer of an item.
+     * @param item the item
      */
-    private void initializeKeyEvents() {
-        getScene().addEventFilter(KeyEvent.KEY_PRESSED, new WeakEventHandler<>(keyPressedEvent));
-        getScene().addEventFilter(KeyEvent.KEY_RELEASED, new WeakEventHandler<>(keyReleasedEvent));
+    private void unobserveItem(T item) {
+        ItemObserver<T> observer = itemObservers.remove(item);
+        if (observer != null) {
+            observer.dispose();
+        }
+        staleItems.remove(item);
     }
 
     /**
-     * Handles the resizing logic of the virtual flow.
+     * Called when an extracted property of an item changed.
+     * Updates the cell of the item if it is visible, or marks the item stale otherwise.
+     * @param item the item
      */
-    private void handleResize() {
-        double availableWidth = getWidth() - getRightGap()- getLeftGap();
-        int calculatedCellsPerRow = Math.min(maxCellsPerRow.get(), Math.max(1, (int) (availableWidth / minCellWidthBreakPoint.get())));
-        if (currentCellsPerRow.get() != calculatedCellsPerRow) {
-            currentCellsPerRow.set(calculatedCellsPerRow);
+    private void onItemInvalidated(T item) {
+        forgetModel(item);
+        Node node = itemToNodeMap.get(item);
+        if (node == null) {
+            return;
+        }
+        if (node.getParent() == contentPane && node instanceof NfxCell<?>) {
+            updateCell(getCell(item), item);
+        }
+        else {
+            staleItems.add(item);
         }
-        updateCells();
     }
 
     /**
-     * Updates the cells in the virtual flow.
+     * Applies an edit script computed by {@link #setItemsDiffed(List)}.
+     * The script is dropped if the items list was replaced since it was requested.
+     * Falls back to a single setAll when the items changed while the script was computed,
+     * or when the script is too large to be worth applying step by step.
+     * @param target the list the script was computed for
+     * @param oldItems the snapshot of the list the script was computed for
+     * @param newItems the new items
+     * @param diff the edit script
+     * @param request the number of the request
      */
-    private void updateCells() {
-        double availableWidth = getWidth() - getRightGap()- getLeftGap();
+    @SuppressWarnings("unchecked")
+    private void applyDiff(ObservableList<T> target, Object[] oldItems, Object[] newItems, ListDiff diff, long request) {
+        if (request == diffRequests) {
+            diffTarget = null;
+            diffBase = null;
+        }
+        if (target != getItems()) {
+            return;
+        }
+        List<T> next = (List<T>) Arrays.asList(newItems);
+        boolean current = isSnapshotOf(target, oldItems);
+        if (current && diff.isEmpty()) {
+            return;
+        }
+
+        List<T> rendered = getRenderedItems();
         int cellsPerRow = currentCellsPerRow.get();
-        double cellWidth = availableWidth / cellsPerRow;
         double cellHeight = getCellHeight();
+        double scrollTop = getVvalue() * (ListLayout.rowCount(rendered.size(), cellsPerRow) * cellHeight - getHeight());
+        int anchorRow = Math.max(0, (int) (scrollTop / cellHeight));
+        T anchor = anchorRow * cellsPerRow < rendered.size() ? rendered.get(anchorRow * cellsPerRow) : null;
+        double anchorOffset = Math.max(0, scrollTop - anchorRow * cellHeight);
+        List<T> selected = new ArrayList<>(getSelectionModel().getSelectedItems());
+
+        applyingDiff = true;
+        try {
+            if (current && diff.size() <= MAX_DIFF_OPERATIONS) {
+                diff.apply(target, next);
+            }
+            else {
+                target.setAll(next);
+            }
 
-        int rowCount = (int) Math.ceil((double) getItems().size() / cellsPerRow);
-        double contentHeight = rowCount * cellHeight;
-
-        contentPane.setMinHeight(contentHeight);
-        contentPane.setPrefHeight(contentHeight);
+            /*
+             * Moved items went through a remove, bring their selection back
+             */
+            if (!selected.isEmpty()) {
+                Set<Object> present = new HashSet<>(next);
+                for (T item : selected) {
+                    if (present.contains(item) && !getSelectionModel().isSelected(item)) {
+                        getSelectionModel().getSelectedItems().add(item);
+                    }
+                }
+            }
 
-        int firstVisibleRow = (int) (getVvalue() * (contentHeight - getHeight()) / cellHeight);
-        int visibleRowCount = (int) Math.ceil(getHeight() / cellHeight) +1; //Extra row just in case, so don't fuck with it
+            releaseDetachedCells();
 
-        firstVisibleRow = Math.max(0, firstVisibleRow);
-        int lastVisibleRow = Math.min(firstVisibleRow + visibleRowCount , rowCount);
+            /*
+             * Resize the content right away so the skin adjusts the scroll position now
+             * and not on the next layout pass, after the anchor was restored.
+             */
+            double contentHeight = resizeContent();
 
-        List<Node> newVisibleCells = new ArrayList<>();
+            /*
+             * Keep the anchor item at the same offset from the top of the viewport
+             */
+            int anchorIndex = anchor == null ? -1 : renderedIndexOf(anchor);
+            double range = contentHeight - getHeight();
+            if (anchorIndex >= 0 && range > 0) {
+                double top = (anchorIndex / cellsPerRow) * cellHeight + anchorOffset;
+                setVvalue(Math.max(0, Math.min(1, top / range)));
+            }
+        }
+        finally {
+            applyingDiff = false;
+        }
+        updateCells();
+    }
 
-        for (int row = firstVisibleRow; row < lastVisibleRow; row++) {
-            for (int col = 0; col < cellsPerRow; col++) {
-                int index = row * cellsPerRow + col;
-                if (index >= getItems().size()) {
-                    break;
-                }
-                T item = getItems().get(index);
-                Node cellNode = getCellNode(item);
+    /**
+     * Resizes the content pane to fit the rendered items right away.
+     * @return the new content height
+     */
+    private double resizeContent() {
+        double contentHeight = ListLayout.rowCount(getRenderedItems().size(), currentCellsPerRow.get()) * getCellHeight();
+        contentPane.setMinHeight(contentHeight);
+        contentPane.setPrefHeight(contentHeight);
+        contentPane.resize(contentPane.getWidth(), contentHeight);
+        return contentHeight;
+    }
 
-                cellNode.resize(cellWidth, cellHeight);
-                cellNode.relocate(col * cellWidth + getLeftGap(), row * cellHeight);
+    /**
+     * Returns whether the view is scrolled to the bottom, or the content fits in the viewport.
+     * @return true if the last row is in view
+     */
+    private boolean isAtBottom() {
+        double range = contentPane.getHeight() - getHeight();
+        return (getVmax() - getVvalue()) * range < 1;
+    }
 
-                newVisibleCells.add(cellNode);
-                if (!contentPane.getChildren().contains(cellNode)) {
-                    contentPane.getChildren().add(cellNode);
-                }
-            }
+    /**
+     * Scrolls to the bottom without waiting for the next layout pass.
+     */
+    private void scrollToBottom() {
+        resizeContent();
+        if (getVvalue() != getVmax()) {
+            setVvalue(getVmax());
         }
-
-        for (Node cell : visibleCells) {
-            if (!newVisibleCells.contains(cell)) {
-                contentPane.getChildren().remove(cell);
-            }
+        else {
+            updateCells();
         }
-
-        visibleCells.clear();
-        visibleCells.addAll(newVisibleCells);
     }
 
     /**
-     * Returns the node associated with the given item.
-     * @param item the item for which to get the node
-     * @return the node associated with the item
+     * Checks whether a list still holds exactly the items of a snapshot.
+     * @param list the list
+     * @param snapshot the snapshot
+     * @return true if the list holds the same items in the same order
      */
-    private Node getCellNode(T item) {
-        if (!itemToNodeMap.containsKey(item)) {
-            Node cellNode = createCell(item).getNode();
-            itemToNodeMap.put(item, cellNode);
+    private boolean isSnapshotOf(List<T> list, Object[] snapshot) {
+        if (list.size() != snapshot.length) {
+            return false;
+        }
+        for (int i = 0; i < snapshot.length; i++) {
+            if (list.get(i) != snapshot[i]) {
+                return false;
+            }
         }
-        return itemToNodeMap.get(item);
+        return true;
     }
 
     /**
@@ -922,7 +2993,7 @@ public final class BaseListView<T> extends ScrollPane {
      * @return the first item, or null if the list is empty
      */
     public T getFirstItem() {
-        return getItems().isEmpty() ? null : getItems().get(0);
+        return getRenderedItems().isEmpty() ? null : getRenderedItems().get(0);
     }
 
     /**
@@ -930,7 +3001,7 @@ public final class BaseListView<T> extends ScrollPane {
      * @return the last item, or null if the list is empty
      */
     public T getLastItem() {
-        return getItems().isEmpty() ? null : getItems().get(getItems().size() - 1);
+        return getRenderedItems().isEmpty() ? null : getRenderedItems().get(getRenderedItems().size() - 1);
     }
 
     /**
@@ -938,7 +3009,7 @@ public final class BaseListView<T> extends ScrollPane {
      * @param item the item to scroll to
      */
     private void scrollToItemInternal(T item) {
-        int index = getItems().indexOf(item);
+        int index = renderedIndexOf(item);
         if (index >= 0) {
             int cellsPerRow = currentCellsPerRow.get();
             int row = index / cellsPerRow;
@@ -965,14 +3036,145 @@ public final class BaseListView<T> extends ScrollPane {
     }
 
     /**
-     * Creates a cell for the given item.
+     * Returns the list the cells are rendered from.
+     * @return the sorted view of the items if a comparator is set, the items otherwise
+     */
+    private ObservableList<T> getRenderedItems() {
+        return renderedItems == null ? getItems() : renderedItems;
+    }
+
+    /**
+     * Returns the position of an item in the rendered list.
+     * @param item the item
+     * @return the rendered index of the item, or -1 if it is not in the items
+     */
+    private int renderedIndexOf(T item) {
+        int index = indexOf(item);
+        if (index >= 0 && renderedItems instanceof AsyncSortedList<T> sorted) {
+            return sorted.getViewIndex(index);
+        }
+        return index;
+    }
+
+    /**
+     * Rebuilds the rendered list from the current items and comparator,
+     * moving the list change listener over to it and disposing the replaced sorted list.
+     * The item index is attached first, so it is up-to-date when the cells are updated.
+     */
+    private void updateRenderedItems() {
+        if (renderedItems != null) {
+            renderedItems.removeListener(weakListChangeListener);
+        }
+        if (renderedItems instanceof AsyncSortedList<T> sorted) {
+            sorted.dispose();
+        }
+        if (itemIndex != null) {
+            itemIndex.attach(getItems());
+        }
+        Comparator<? super T> comparator = getComparator();
+        renderedItems = comparator == null ? getItems() : new AsyncSortedList<>(getItems(), comparator, THREAD_POOL);
+        renderedItems.addListener(weakListChangeListener);
+    }
+
+    /**
+     * Creates a cell for the given item with the factory of its type.
      * @param item the item for which to create the cell
+     * @param type the type key of the item
      * @return the created cell
      */
-    private Cell<T, ?> createCell(T item){
-        NfxCell<T> nfxCell = getCellFactory().call(this.parent);
-        nfxCell.update(item);
-        return Cell.wrap(nfxCell);
+    private NfxCell<T> createCell(T item, Object type){
+        CreateCellEvent event = new CreateCellEvent();
+        event.begin();
+        long start = timingCells ? System.nanoTime() : 0;
+        NfxCell<T> nfxCell = getCellFactory(type).call(this.parent);
+        if (timingCells) {
+            recordCellCall(NfxCellTiming.Phase.FACTORY, nfxCell, item, System.nanoTime() - start);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.cellType = type == null ? null : String.valueOf(type);
+            event.cellClass = nfxCell.getClass().getName();
+            event.commit();
+        }
+        statistics.cellCreated();
+        if (outlineRebuilt) {
+            nfxCell.pseudoClassStateChanged(PSEUDO_CLASS_REBUILT, true);
+        }
+        updateCell(nfxCell, item);
+        return nfxCell;
+    }
+
+    /**
+     * Updates a cell with an item, timing the call while the cell timing is on.
+     * @param cell the cell
+     * @param item the item to update the cell with
+     */
+    private void updateCell(NfxCell<T> cell, T item) {
+        if (!timingCells) {
+            cell.update(item);
+            return;
+        }
+        long start = System.nanoTime();
+        cell.update(item);
+        recordCellCall(NfxCellTiming.Phase.UPDATE, cell, item, System.nanoTime() - start);
+    }
+
+    /**
+     * Converts a duration to nanoseconds.
+     * @param duration the duration
+     * @return the duration in nanoseconds
+     */
+    private static long toNanos(Duration duration) {
+        return (long) (duration.toMillis() * 1_000_000);
+    }
+
+    /**
+     * Records a timed cell call and fires a slow cell event if it exceeded the threshold.
+     * @param phase the timed call
+     * @param cell the cell
+     * @param item the item the cell was built or updated for
+     * @param nanos the duration of the call
+     */
+    private void recordCellCall(NfxCellTiming.Phase phase, NfxCell<T> cell, T item, long nanos) {
+        if (nanos > slowCellNanos) {
+            recordCellCall(phase, cell, resolveCellType(item), renderedIndexOf(item), nanos);
+        }
+        else {
+            cellTimings.record(phase, cell.getClass(), nanos, false);
+        }
+    }
+
+    /**
+     * Records a timed cell call of a known type and fires a slow cell event if it exceeded the threshold.
+     * @param phase the timed call
+     * @param cell the cell
+     * @param type the type key of the cell
+     * @param index the rendered index of the item, -1 for a cell built ahead of time
+     * @param nanos the duration of the call
+     */
+    private void recordCellCall(NfxCellTiming.Phase phase, NfxCell<T> cell, Object type, int index, long nanos) {
+        boolean slow = nanos > slowCellNanos;
+        cellTimings.record(phase, cell.getClass(), nanos, slow);
+        if (slow) {
+            fireEvent(new NfxSlowCellEvent(
+                    parent,
+                    phase == NfxCellTiming.Phase.FACTORY ? NfxSlowCellEvent.NFX_SLOW_CELL_FACTORY : NfxSlowCellEvent.NFX_SLOW_CELL_UPDATE,
+                    cell.getClass(),
+                    type,
+                    index,
+                    nanos
+            ));
+        }
+    }
+
+    /**
+     * Returns the factory building the cells of a type.
+     * @param type the type key
+     * @return the factory registered for the type, or the cell factory
+     */
+    private Callback<NfxListView<T>, NfxCell<T>> getCellFactory(Object type) {
+        Callback<NfxListView<T>, NfxCell<T>> factory = cellFactories == null ? null : cellFactories.get(type);
+        return factory != null ? factory : getCellFactory();
     }
 
     /**
@@ -980,18 +3182,138 @@ public final class BaseListView<T> extends ScrollPane {
      * Resets the state and handles resizing.
      */
     private void onUpdate() {
+        statistics.reset();
         reset();
         handleResize();
+        prewarmCells();
     }
 
     /**
      * Resets the state of the virtual flow.
      * Clears the content pane, item-to-node map, and visible cells list.
+     * With a shared cell pool, the bound cells are released to it first, so other list views,
+     * or this one once reset, rebind them instead of building new cells.
      */
     private void reset() {
+        ResetEvent event = new ResetEvent();
+        event.begin();
+        int released = releaseBoundCells();
+        int discarded = event.isEnabled() ? itemToNodeMap.size() - released + cellPools.values().stream().mapToInt(Deque::size).sum() : 0;
         contentPane.getChildren().clear();
         itemToNodeMap.clear();
+        cellPools.clear();
+        cellTypes.clear();
+        sharedPoolKeys.clear();
         visibleCells.clear();
+        detachedItems.clear();
+        itemObservers.values().forEach(ItemObserver::dispose);
+        itemObservers.clear();
+        staleItems.clear();
+        pendingRebinds.clear();
+        preparedModels.clear();
+        pendingModels.clear();
+        modelPreparers.clear();
+        prewarmingCells.clear();
+        prewarmGeneration++;
+        visibleRows = 0;
+        firstVisibleIndex = 0;
+        lastVisibleIndex = 0;
+        event.end();
+        if (event.shouldCommit()) {
+            event.cellsDiscarded = discarded;
+            event.commit();
+        }
+    }
+
+    /**
+     * The key of a cell type in a shared cell pool.
+     * @param type the type key
+     * @param factory the cell factory of the type
+     */
+    private record SharedPoolKey(Object type, Callback<?, ?> factory) {
+    }
+
+    /**
+     * A render model being prepared.
+     * @param <T> the type of the item
+     */
+    private static final class PendingModel<T> {
+        /**
+         * The cells waiting for the model, in the order of their callbacks.
+         */
+        private final List<NfxCell<T>> cells = new ArrayList<>(1);
+
+        /**
+         * The callbacks waiting for the model.
+         */
+        private final List<BiConsumer<T, Object>> consumers = new ArrayList<>(1);
+
+        /**
+         * The callbacks told when the preparation fails.
+         */
+        private final List<BiConsumer<T, Throwable>> failures = new ArrayList<>(1);
+    }
+
+    /**
+     * Watches the extracted observables of an item.
+     * @param <T> the type of the item
+     */
+    private static final class ItemObserver<T> implements InvalidationListener {
+        /**
+         * The observed item.
+         */
+        private final T item;
+
+        /**
+         * The extracted observables of the item.
+         */
+        private final Observable[] observables;
+
+        /**
+         * The action run with the item when one of its observables is invalidated.
+         */
+        private final Consumer<T> action;
+
+        /**
+         * The observer as registered on the observables, weak so items outliving the list view do not retain it.
+         */
+        private final WeakInvalidationListener weakListener;
+
+        /**
+         * Constructs an ItemObserver and registers it on the observables.
+         * @param item the observed item
+         * @param observables the extracted observables
+         * @param action the action run on invalidation
+         */
+        private ItemObserver(T item, Observable[] observables, Consumer<T> action) {
+            this.item = item;
+            this.observables = observables;
+            this.action = action;
+            this.weakListener = new WeakInvalidationListener(this);
+            for (Observable observable : observables) {
+                observable.addListener(weakListener);
+            }
+        }
+
+        @Override
+        public void invalidated(Observable observable) {
+            /*
+             * Validate again, otherwise a lazy property never notifies twice
+             */
+            if (observable instanceof ObservableValue<?> value) {
+                value.getValue();
+            }
+            action.accept(item);
+        }
+
+        /**
+         * Removes the observer from the observables.
+         */
+        private void dispose() {
+            for (Observable observable : observables) {
+                observable.removeListener(weakListener);
+            }
+        }
     }
 
 
@@ -0,0 +1,140 @@
+package com.xss.it.nfx.list.internals;
+
+import xss.it.nfx.list.monitor.NfxCellTiming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+final class CellTimings {
+    /**
+     * The number of calls kept per cell class and phase for the percentiles.
+     */
+    private static final int WINDOW = 1024;
+
+    /**
+     * The timings of the factory calls, by cell class.
+     */
+    private final Map<Class<?>, Samples> factoryCalls = new HashMap<>();
+
+    /**
+     * The timings of the update calls, by cell class.
+     */
+    private final Map<Class<?>, Samples> updateCalls = new HashMap<>();
+
+    /**
+     * Records a call.
+     * @param phase the timed call
+     * @param cellClass the class of the cell
+     * @param nanos the duration of the call
+     * @param slow whether the call exceeded the slow cell threshold
+     */
+    void record(NfxCellTiming.Phase phase, Class<?> cellClass, long nanos, boolean slow) {
+        Map<Class<?>, Samples> calls = phase == NfxCellTiming.Phase.FACTORY ? factoryCalls : updateCalls;
+        Samples samples = calls.get(cellClass);
+        if (samples == null) {
+            samples = new Samples();
+            calls.put(cellClass, samples);
+        }
+        samples.add(nanos, slow);
+    }
+
+    /**
+     * Returns the timings of every cell class and phase recorded.
+     * @return the timings, factory calls first
+     */
+    List<NfxCellTiming> snapshot() {
+        List<NfxCellTiming> timings = new ArrayList<>();
+        factoryCalls.forEach((cellClass, samples) -> timings.add(samples.snapshot(cellClass, NfxCellTiming.Phase.FACTORY)));
+        updateCalls.forEach((cellClass, samples) -> timings.add(samples.snapshot(cellClass, NfxCellTiming.Phase.UPDATE)));
+        return timings;
+    }
+
+    /**
+     * Drops every recorded call.
+     */
+    void clear() {
+        factoryCalls.clear();
+        updateCalls.clear();
+    }
+
+    /**
+     * The recorded calls of a cell class and phase.
+     */
+    private static final class Samples {
+        /**
+         * The durations of the last calls, as a ring buffer.
+         */
+        private final long[] window = new long[WINDOW];
+
+        /**
+         * The number of calls recorded.
+         */
+        private long calls = 0;
+
+        /**
+         * The longest call recorded.
+         */
+        private long max = 0;
+
+        /**
+         * The number of calls over the slow cell threshold.
+         */
+        private long slowCalls = 0;
+
+        /**
+         * Records a call.
+         * @param nanos the duration of the call
+         * @param slow whether the call exceeded the slow cell threshold
+         */
+        void add(long nanos, boolean slow) {
+            window[(int) (calls % WINDOW)] = nanos;
+            calls++;
+            max = Math.max(max, nanos);
+            if (slow) {
+                slowCalls++;
+            }
+        }
+
+        /**
+         * Returns the timing of the recorded calls.
+         * @param cellClass the class of the cell
+         * @param phase the timed call
+         * @return the timing
+         */
+        NfxCellTiming snapshot(Class<?> cellClass, NfxCellTiming.Phase phase) {
+            long[] sorted = Arrays.copyOf(window, (int) Math.min(calls, WINDOW));
+            Arrays.sort(sorted);
+            return new NfxCellTiming(
+                    cellClass.getName(),
+                    phase,
+                    calls,
+                    percentile(sorted, 50),
+                    percentile(sorted, 90),
+                    percentile(sorted, 99),
+                    max,
+                    slowCalls
+            );
+        }
+
+        /**
+         * Returns a percentile of sorted durations.
+         * @param sorted the sorted durations
+         * @param percentile the percentile, between 0 and 100
+         * @return the duration at the percentile, 0 if there is none
+         */
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, rank)];
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.xss.it.nfx.list.internals;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+@Name("xss.it.nfx.list.CreateCell")
+@Label("Create Cell")
+@Category({"NfxListView"})
+@Description("A call to a cell factory")
+final class CreateCellEvent extends Event {
+    /**
+     * The type key of the cell, null for the default type.
+     */
+    @Label("Cell Type")
+    String cellType;
+
+    /**
+     * The class of the cell built by the factory.
+     */
+    @Label("Cell Class")
+    String cellClass;
+}
@@ -0,0 +1,193 @@
+package com.xss.it.nfx.list.internals;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+
+import java.util.Locale;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class DebugOverlay extends Region {
+    /**
+     * The style class for the overlay.
+     */
+    private static final String STYLE_CLASS = "nfx-debug-overlay";
+
+    /**
+     * The interval between two refreshes of the text, in nanoseconds.
+     */
+    private static final long REFRESH_INTERVAL = 250_000_000L;
+
+    /**
+     * The list view the overlay reports on.
+     */
+    private final BaseListView<?> listView;
+
+    /**
+     * The label showing the figures.
+     */
+    private final Label label;
+
+    /**
+     * The timestamp of the previous pulse, 0 if none was seen since the overlay started.
+     */
+    private long lastPulse = 0;
+
+    /**
+     * The start of the current refresh window.
+     */
+    private long windowStart = 0;
+
+    /**
+     * The number of pulses in the current refresh window.
+     */
+    private int windowFrames = 0;
+
+    /**
+     * The largest number of cells built in a frame of the current refresh window.
+     */
+    private long windowMaxBuilt = 0;
+
+    /**
+     * The longest layout pass of the current refresh window, in nanoseconds.
+     */
+    private long windowMaxLayout = 0;
+
+    /**
+     * The number of cells created at the previous pulse.
+     */
+    private long lastCellsCreated = 0;
+
+    /**
+     * The number of layout passes at the previous pulse.
+     */
+    private long lastUpdateCellsCount = 0;
+
+    /**
+     * The time spent in layout passes at the previous pulse.
+     */
+    private long lastUpdateCellsNanos = 0;
+
+    /**
+     * The number of cells built in the last frame.
+     */
+    private long frameBuilt = 0;
+
+    /**
+     * The duration of the last layout pass, in nanoseconds.
+     */
+    private long frameLayout = 0;
+
+    /**
+     * The scroll offset at the previous pulse.
+     */
+    private double lastOffset = 0;
+
+    /**
+     * The smoothed scroll velocity, in pixels per second.
+     */
+    private double velocity = 0;
+
+    /**
+     * Called at each pulse while the overlay is shown.
+     */
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onPulse(now);
+        }
+    };
+
+    /**
+     * Constructs a DebugOverlay.
+     * The overlay is transparent to the mouse and only samples the list view between
+     * {@link #start()} and {@link #stop()}.
+     * @param listView the list view to report on
+     */
+    public DebugOverlay(BaseListView<?> listView) {
+        super();
+        this.listView = listView;
+        this.label = new Label();
+        getStyleClass().add(STYLE_CLASS);
+        setMouseTransparent(true);
+        setFocusTraversable(false);
+        getChildren().add(label);
+    }
+
+    /**
+     * Starts sampling the list view at each pulse.
+     */
+    public void start() {
+        lastPulse = 0;
+        timer.start();
+    }
+
+    /**
+     * Stops sampling the list view.
+     */
+    public void stop() {
+        timer.stop();
+    }
+
+    /**
+     * Samples the list view and refreshes the text at most four times per second.
+     * @param now the pulse timestamp
+     */
+    private void onPulse(long now) {
+        ListStatistics statistics = listView.getLiveStatistics();
+        long created = statistics.getCellsCreated();
+        long count = statistics.getUpdateCellsCount();
+        long nanos = statistics.getUpdateCellsNanos();
+        double offset = listView.getScrollOffset();
+        if (lastPulse != 0) {
+            double seconds = (now - lastPulse) / 1e9;
+            frameBuilt = created - lastCellsCreated;
+            if (count != lastUpdateCellsCount) {
+                frameLayout = (nanos - lastUpdateCellsNanos) / (count - lastUpdateCellsCount);
+            }
+            velocity = velocity * 0.8 + (offset - lastOffset) / seconds * 0.2;
+            windowMaxBuilt = Math.max(windowMaxBuilt, frameBuilt);
+            windowMaxLayout = Math.max(windowMaxLayout, frameLayout);
+            windowFrames++;
+        }
+        else {
+            windowStart = now;
+        }
+        lastPulse = now;
+        lastCellsCreated = created;
+        lastUpdateCellsCount = count;
+        lastUpdateCellsNanos = nanos;
+        lastOffset = offset;
+
+        if (now - windowStart >= REFRESH_INTERVAL) {
+            double fps = windowFrames * 1e9 / (now - windowStart);
+            label.setText(String.format(Locale.ROOT,
+                    "FPS %.1f%ncells %d bound, %d pooled%nbuilt %d last frame, %d max%nlayout %.2f ms, %.2f max%nitems %d-%d of %d%nscroll %.0f px/s",
+                    fps,
+                    listView.getBoundCellCount(), listView.getPooledCellCount(),
+                    frameBuilt, windowMaxBuilt,
+                    frameLayout / 1e6, windowMaxLayout / 1e6,
+                    listView.getFirstVisibleIndex(), Math.max(listView.getFirstVisibleIndex(), listView.getLastVisibleIndex() - 1),
+                    listView.getItems().size(),
+                    velocity
+            ));
+            windowStart = now;
+            windowFrames = 0;
+            windowMaxBuilt = 0;
+            windowMaxLayout = 0;
+        }
+    }
+
+    /**
+     * Lays out the label in the top right corner.
+     */
+    @Override
+    protected void layoutChildren() {
+        double width = label.prefWidth(-1);
+        double height = label.prefHeight(width);
+        label.resizeRelocate(Math.max(0, getWidth() - listView.getRightGap() - width), 0, width, height);
+    }
+}
@@ -0,0 +1,512 @@
+package com.xss.it.nfx.list.internals;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.css.CssMetaData;
+import javafx.css.SimpleStyleableDoubleProperty;
+import javafx.css.StyleableDoubleProperty;
+import javafx.css.StyleableProperty;
+import javafx.css.Styleable;
+import javafx.css.converter.SizeConverter;
+import javafx.scene.control.Control;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.input.MouseEvent;
+import xss.it.nfx.list.misc.SelectionModel;
+import xss.it.nfx.list.primitive.NfxIndexedCell;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class IndexedFlow extends ScrollPane {
+    /**
+     * The style class for the content.
+     */
+    private static final String CONTENT_STYLE_CLASS = "nfx-content";
+
+    /**
+     * The supplier of new cells.
+     */
+    private final Supplier<? extends NfxIndexedCell> cellSupplier;
+
+    /**
+     * The content pane.
+     */
+    private final VirtualPane contentPane;
+
+    /**
+     * The selected indices.
+     */
+    private final BitSet selection;
+
+    /**
+     * The cells that are not bound to a visible row.
+     */
+    private final ArrayDeque<NfxIndexedCell> pool;
+
+    /**
+     * The cells of the visible rows, the first one showing row {@link #windowFrom}.
+     */
+    private NfxIndexedCell[] window;
+
+    /**
+     * The array the next window is built in, swapped with {@link #window} after every pass.
+     */
+    private NfxIndexedCell[] scratch;
+
+    /**
+     * The first visible row.
+     */
+    private int windowFrom = 0;
+
+    /**
+     * The row after the last visible row.
+     */
+    private int windowTo = 0;
+
+    /**
+     * The index shown by every row, or null if row and index are the same.
+     * Kept sorted, filtering preserves the order of the indices.
+     */
+    private int[] rows;
+
+    /**
+     * The number of rows.
+     */
+    private final ReadOnlyIntegerWrapper rowCount;
+
+    /**
+     * The index of the last selected value, -1 if there is none.
+     */
+    private final ReadOnlyIntegerWrapper selectedIndex;
+
+    /**
+     * The selection mode.
+     */
+    private SelectionModel.Mode selectionMode = SelectionModel.Mode.SINGLE;
+
+    /**
+     * Constructs an IndexedFlow.
+     * @param cellSupplier the supplier of new cells
+     */
+    public IndexedFlow(Supplier<? extends NfxIndexedCell> cellSupplier) {
+        super();
+        this.cellSupplier = Objects.requireNonNull(cellSupplier);
+        this.contentPane = new VirtualPane();
+        this.selection = new BitSet();
+        this.pool = new ArrayDeque<>();
+        this.window = new NfxIndexedCell[0];
+        this.scratch = new NfxIndexedCell[0];
+        this.rowCount = new ReadOnlyIntegerWrapper(this, "rowCount", 0);
+        this.selectedIndex = new ReadOnlyIntegerWrapper(this, "selectedIndex", -1);
+        initialize();
+    }
+
+    /**
+     * Initializes the IndexedFlow.
+     */
+    private void initialize() {
+        contentPane.getStyleClass().add(CONTENT_STYLE_CLASS);
+        setContent(contentPane);
+        setFitToWidth(true);
+        widthProperty().addListener(obs -> updateCells());
+        heightProperty().addListener(obs -> updateCells());
+        vvalueProperty().addListener(obs -> updateCells());
+        cellHeightProperty().addListener(obs -> updateCells());
+    }
+
+    /**
+     * The cell height property.
+     */
+    private StyleableDoubleProperty cellHeight;
+
+    /**
+     * Returns the cell height.
+     * @return the cell height
+     */
+    public double getCellHeight() {
+        return cellHeightProperty().get();
+    }
+
+    /**
+     * Sets the cell height.
+     * @param value the new cell height
+     */
+    public void setCellHeight(double value) {
+        cellHeightProperty().set(value);
+    }
+
+    /**
+     * Returns the cell height property.
+     * @return the styleable double property for cell height
+     */
+    public StyleableDoubleProperty cellHeightProperty() {
+        if (cellHeight == null) {
+            cellHeight = new SimpleStyleableDoubleProperty(
+                    StyleableProperties.CELL_HEIGHT,
+                    IndexedFlow.this,
+                    "cellHeight",
+                    50.0
+            );
+        }
+        return cellHeight;
+    }
+
+    /**
+     * Returns the number of rows.
+     * @return the number of values shown
+     */
+    public int getRowCount() {
+        return rowCount.get();
+    }
+
+    /**
+     * Returns the row count property.
+     * @return the read-only integer property for the row count
+     */
+    public ReadOnlyIntegerProperty rowCountProperty() {
+        return rowCount.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the index of the last selected value.
+     * @return the selected index, -1 if there is none
+     */
+    public int getSelectedIndex() {
+        return selectedIndex.get();
+    }
+
+    /**
+     * Returns the selected index property.
+     * @return the read-only integer property for the selected index
+     */
+    public ReadOnlyIntegerProperty selectedIndexProperty() {
+        return selectedIndex.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the selection mode.
+     * @return the selection mode
+     */
+    public SelectionModel.Mode getSelectionMode() {
+        return selectionMode;
+    }
+
+    /**
+     * Sets the selection mode.
+     * @param selectionMode the new selection mode
+     */
+    public void setSelectionMode(SelectionModel.Mode selectionMode) {
+        this.selectionMode = Objects.requireNonNull(selectionMode);
+    }
+
+    /**
+     * Sets the rows to show.
+     * @param rows the index shown by every row, sorted, or null to show every index in order
+     * @param count the number of rows
+     */
+    public void setRows(int[] rows, int count) {
+        this.rows = rows;
+        rowCount.set(count);
+        releaseCells();
+        updateCells();
+    }
+
+    /**
+     * Shows more rows after the current ones, keeping the bound cells.
+     * @param rows the index shown by every row, sorted, or null to show every index in order
+     * @param count the number of rows, not lower than the current count
+     */
+    public void appendRows(int[] rows, int count) {
+        this.rows = rows;
+        rowCount.set(count);
+        updateCells();
+    }
+
+    /**
+     * Binds the cell of an index again, if the index is visible.
+     * @param index the index whose value changed
+     */
+    public void refresh(int index) {
+        int row = rowOf(index);
+        if (row >= windowFrom && row < windowTo) {
+            window[row - windowFrom].bind(index, selection.get(index));
+        }
+    }
+
+    /**
+     * Discards every cell, so the next layout creates them again.
+     */
+    public void rebuildCells() {
+        releaseCells();
+        pool.clear();
+        contentPane.getChildren().clear();
+        updateCells();
+    }
+
+    /**
+     * Binds every visible cell again.
+     */
+    public void refreshAll() {
+        for (int row = windowFrom; row < windowTo; row++) {
+            int index = indexOf(row);
+            window[row - windowFrom].bind(index, selection.get(index));
+        }
+    }
+
+    /**
+     * Returns whether an index is selected.
+     * @param index the index
+     * @return true if the index is selected
+     */
+    public boolean isSelected(int index) {
+        return selection.get(index);
+    }
+
+    /**
+     * Selects an index, clearing the selection first in single selection mode.
+     * @param index the index
+     */
+    public void select(int index) {
+        if (selectionMode == SelectionModel.Mode.SINGLE) {
+            selection.clear();
+        }
+        selection.set(index);
+        selectedIndex.set(index);
+        updateSelectedCells();
+    }
+
+    /**
+     * Unselects an index.
+     * @param index the index
+     */
+    public void unselect(int index) {
+        selection.clear(index);
+        if (selectedIndex.get() == index) {
+            selectedIndex.set(selection.isEmpty() ? -1 : selection.previousSetBit(selection.length() - 1));
+        }
+        updateSelectedCells();
+    }
+
+    /**
+     * Clears the selection.
+     */
+    public void clearSelection() {
+        selection.clear();
+        selectedIndex.set(-1);
+        updateSelectedCells();
+    }
+
+    /**
+     * Returns the selected indices.
+     * @return a copy of the selected indices
+     */
+    public BitSet getSelectedIndices() {
+        return (BitSet) selection.clone();
+    }
+
+    /**
+     * Scrolls to the row showing an index.
+     * @param index the index
+     */
+    public void scrollTo(int index) {
+        int row = rowOf(index);
+        if (row < 0) {
+            return;
+        }
+        double range = getRowCount() * getCellHeight() - getHeight();
+        setVvalue(range > 0 ? Math.min(1, row * getCellHeight() / range) : 0);
+    }
+
+    /**
+     * Returns the index shown by a row.
+     * @param row the row
+     * @return the index
+     */
+    private int indexOf(int row) {
+        return rows == null ? row : rows[row];
+    }
+
+    /**
+     * Returns the row showing an index.
+     * @param index the index
+     * @return the row, or -1 if the index is not shown
+     */
+    private int rowOf(int index) {
+        int count = getRowCount();
+        if (rows == null) {
+            return index < count ? index : -1;
+        }
+        int row = Arrays.binarySearch(rows, 0, count, index);
+        return row >= 0 ? row : -1;
+    }
+
+    /**
+     * Updates the cells in the flow.
+     * Cells of rows that stay visible are kept as they are, cells of rows that scrolled out
+     * are bound again to the rows that scrolled in.
+     */
+    private void updateCells() {
+        double cellHeight = getCellHeight();
+        int count = getRowCount();
+        double contentHeight = count * cellHeight;
+
+        contentPane.setMinHeight(contentHeight);
+        contentPane.setPrefHeight(contentHeight);
+
+        int from = Math.max(0, (int) (getVvalue() * (contentHeight - getHeight()) / cellHeight));
+        int to = Math.min(from + (int) Math.ceil(getHeight() / cellHeight) + 1, count);
+        if (to < from) {
+            to = from;
+        }
+
+        for (int row = windowFrom; row < windowTo; row++) {
+            if (row < from || row >= to) {
+                NfxIndexedCell cell = window[row - windowFrom];
+                cell.setVisible(false);
+                pool.push(cell);
+            }
+        }
+
+        if (scratch.length < to - from) {
+            scratch = new NfxIndexedCell[to - from];
+        }
+        double width = getViewportBounds().getWidth();
+        for (int row = from; row < to; row++) {
+            NfxIndexedCell cell;
+            if (row >= windowFrom && row < windowTo) {
+                cell = window[row - windowFrom];
+            }
+            else {
+                cell = acquireCell();
+                int index = indexOf(row);
+                cell.bind(index, selection.get(index));
+                cell.setVisible(true);
+            }
+            cell.resizeRelocate(0, row * cellHeight, width, cellHeight);
+            scratch[row - from] = cell;
+        }
+
+        NfxIndexedCell[] previous = window;
+        window = scratch;
+        scratch = previous;
+        Arrays.fill(scratch, null);
+        windowFrom = from;
+        windowTo = to;
+    }
+
+    /**
+     * Returns a free cell, creating it if the pool is empty.
+     * @return the cell
+     */
+    private NfxIndexedCell acquireCell() {
+        NfxIndexedCell cell = pool.poll();
+        if (cell == null) {
+            NfxIndexedCell created = cellSupplier.get();
+            created.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> onCellClicked(created, event));
+            contentPane.getChildren().add(created);
+            cell = created;
+        }
+        return cell;
+    }
+
+    /**
+     * Moves every visible cell to the pool.
+     */
+    private void releaseCells() {
+        for (int row = windowFrom; row < windowTo; row++) {
+            NfxIndexedCell cell = window[row - windowFrom];
+            cell.setVisible(false);
+            pool.push(cell);
+        }
+        Arrays.fill(window, null);
+        windowFrom = 0;
+        windowTo = 0;
+    }
+
+    /**
+     * Updates the selected state of the visible cells.
+     */
+    private void updateSelectedCells() {
+        for (int row = windowFrom; row < windowTo; row++) {
+            NfxIndexedCell cell = window[row - windowFrom];
+            cell.setSelected(selection.get(cell.getIndex()));
+        }
+    }
+
+    /**
+     * Handles a click on a cell.
+     * With the control key down in multiple selection mode the index is toggled, otherwise it is selected.
+     * @param cell the clicked cell
+     * @param event the mouse event
+     */
+    private void onCellClicked(NfxIndexedCell cell, MouseEvent event) {
+        int index = cell.getIndex();
+        if (index < 0) {
+            return;
+        }
+        if (selectionMode == SelectionModel.Mode.MULTIPLE && event.isControlDown() && selection.get(index)) {
+            unselect(index);
+        }
+        else {
+            select(index);
+        }
+    }
+
+    /**
+     * Styleables class
+     */
+    private static class StyleableProperties {
+        /**
+         * CssMetaData for cell height.
+         */
+        private static final CssMetaData<IndexedFlow, Number> CELL_HEIGHT =
+                new CssMetaData<>("-nfx-cell-height", SizeConverter.getInstance(), 50.0) {
+                    @Override
+                    public boolean isSettable(IndexedFlow n) {
+                        return n.cellHeight == null || !n.cellHeight.isBound();
+                    }
+
+                    @Override
+                    public StyleableProperty<Number> getStyleableProperty(IndexedFlow n) {
+                        return n.cellHeightProperty();
+                    }
+                };
+
+        /**
+         * List of all styleable properties.
+         */
+        private static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES;
+        static {
+            final List<CssMetaData<? extends Styleable, ?>> cssMetaData = new ArrayList<>(Control.getClassCssMetaData());
+            cssMetaData.add(CELL_HEIGHT);
+            STYLEABLES = Collections.unmodifiableList(cssMetaData);
+        }
+    }
+
+    /**
+     * Returns the class-level CSS metadata.
+     * @return the list of CssMetaData
+     */
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() {
+        return StyleableProperties.STYLEABLES;
+    }
+
+    /**
+     * Returns the control-level CSS metadata.
+     * @return the list of CssMetaData
+     */
+    @Override
+    public List<CssMetaData<? extends Styleable, ?>> getControlCssMetaData() {
+        return getClassCssMetaData();
+    }
+}
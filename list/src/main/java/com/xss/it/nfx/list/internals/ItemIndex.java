@@ -0,0 +1,225 @@
+package com.xss.it.nfx.list.internals;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class ItemIndex<T> {
+    /**
+     * The first node of every item, further duplicates are chained from it.
+     */
+    private final Map<Object, Node> nodes;
+
+    /**
+     * The nodes in list order.
+     * A position is never stored, it is the rank of the node, so inserting or removing
+     * a range only touches O(log n) nodes instead of shifting every following index.
+     */
+    private final OrderTree tree;
+
+    /**
+     * Listener keeping the index in sync with the list.
+     */
+    private final ListChangeListener<T> listener;
+
+    /**
+     * The listener as registered on the list, weak so a list outliving the list view does not retain the index.
+     */
+    private final WeakListChangeListener<T> weakListener;
+
+    /**
+     * The indexed list.
+     */
+    private ObservableList<T> list;
+
+    /**
+     * The version of the list, bumped on every structural change.
+     */
+    private long version = 0;
+
+    /**
+     * Constructs an ItemIndex.
+     */
+    public ItemIndex() {
+        this.nodes = new HashMap<>();
+        this.tree = new OrderTree();
+        this.listener = this::onChanged;
+        this.weakListener = new WeakListChangeListener<>(listener);
+    }
+
+    /**
+     * Indexes a list and keeps the index in sync with its changes.
+     * The listener is added now, so listeners added later see an up-to-date index.
+     * @param list the list to index
+     */
+    public void attach(ObservableList<T> list) {
+        detach();
+        this.list = list;
+        tree.build(newNodes(list.toArray()));
+        version++;
+        list.addListener(weakListener);
+    }
+
+    /**
+     * Stops indexing the current list.
+     */
+    public void detach() {
+        if (list != null) {
+            list.removeListener(weakListener);
+            list = null;
+        }
+        nodes.clear();
+        tree.build(new Node[0]);
+        version++;
+    }
+
+    /**
+     * Returns the index of the first occurrence of an item.
+     * The lookup is O(1), resolving the position is O(log n) and cached until the next change.
+     * @param item the item
+     * @return the index of the item, or -1 if it is not in the list
+     */
+    public int indexOf(Object item) {
+        Node node = nodes.get(item);
+        if (node == null) {
+            return -1;
+        }
+        int index = Integer.MAX_VALUE;
+        for (; node != null; node = node.nextDuplicate) {
+            index = Math.min(index, rank(node));
+        }
+        return index;
+    }
+
+    /**
+     * Returns whether the list contains an item.
+     * @param item the item
+     * @return true if the item is in the list
+     */
+    public boolean contains(Object item) {
+        return nodes.containsKey(item);
+    }
+
+    /**
+     * Applies a list change to the index.
+     * @param c the change
+     */
+    private void onChanged(ListChangeListener.Change<? extends T> c) {
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            }
+            else if (!c.wasUpdated()) {
+                if (c.wasRemoved()) {
+                    for (OrderTree.Node node : tree.removeRange(c.getFrom(), c.getFrom() + c.getRemovedSize())) {
+                        unlink((Node) node);
+                    }
+                }
+                if (c.wasAdded()) {
+                    tree.insertAll(c.getFrom(), newNodes(c.getAddedSubList().toArray()));
+                }
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Reorders the nodes of a permuted range.
+     * @param c the permutation change
+     */
+    private void permute(ListChangeListener.Change<? extends T> c) {
+        int from = c.getFrom();
+        OrderTree.Node[] old = tree.removeRange(from, c.getTo());
+        OrderTree.Node[] permuted = new OrderTree.Node[old.length];
+        for (int i = 0; i < old.length; i++) {
+            permuted[c.getPermutation(from + i) - from] = old[i];
+        }
+        tree.insertAll(from, permuted);
+    }
+
+    /**
+     * Creates the nodes of items and registers them in the item map.
+     * @param items the items
+     * @return the nodes in list order
+     */
+    private Node[] newNodes(Object[] items) {
+        Node[] all = new Node[items.length];
+        for (int i = 0; i < items.length; i++) {
+            Node node = new Node(items[i]);
+            node.nextDuplicate = nodes.put(items[i], node);
+            all[i] = node;
+        }
+        return all;
+    }
+
+    /**
+     * Unregisters a removed node from the item map.
+     * @param node the node
+     */
+    private void unlink(Node node) {
+        Node head = nodes.get(node.item);
+        if (head == node) {
+            if (node.nextDuplicate == null) {
+                nodes.remove(node.item);
+            }
+            else {
+                nodes.put(node.item, node.nextDuplicate);
+            }
+            return;
+        }
+        for (Node n = head; n != null; n = n.nextDuplicate) {
+            if (n.nextDuplicate == node) {
+                n.nextDuplicate = node.nextDuplicate;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of a node, cached until the next change.
+     * @param node the node
+     * @return the position of the node in the list
+     */
+    private int rank(Node node) {
+        if (node.cachedVersion != version) {
+            node.cachedIndex = tree.rank(node);
+            node.cachedVersion = version;
+        }
+        return node.cachedIndex;
+    }
+
+    /**
+     * A tree node holding one list item, chained to the other nodes holding an equal item.
+     */
+    private static final class Node extends OrderTree.Node {
+        /**
+         * The next node holding an equal item.
+         */
+        Node nextDuplicate;
+
+        /**
+         * The last resolved position.
+         */
+        int cachedIndex;
+
+        /**
+         * The version the cached position was resolved at.
+         */
+        long cachedVersion = -1;
+
+        /**
+         * Constructs a Node.
+         * @param item the item
+         */
+        Node(Object item) {
+            super(item);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.xss.it.nfx.list.internals;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+@Name("xss.it.nfx.list.ItemsChange")
+@Label("Items Change")
+@Category({"NfxListView"})
+@Description("The processing of a change of the rendered items")
+final class ItemsChangeEvent extends Event {
+    /**
+     * The number of items added, removed, updated or permuted.
+     */
+    @Label("Change Size")
+    int changeSize;
+}
@@ -0,0 +1,161 @@
+package com.xss.it.nfx.list.internals;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class ListDiff {
+    /**
+     * The removed ranges of the old list, as from/to pairs in descending order.
+     */
+    private final int[] removals;
+
+    /**
+     * The inserted runs of the new list, as index/count pairs in ascending order.
+     */
+    private final int[] insertions;
+
+    /**
+     * Constructs a ListDiff.
+     * @param removals the removed ranges
+     * @param insertions the inserted runs
+     */
+    private ListDiff(int[] removals, int[] insertions) {
+        this.removals = removals;
+        this.insertions = insertions;
+    }
+
+    /**
+     * Returns the number of operations in the edit script.
+     * @return the number of removed ranges and inserted runs
+     */
+    public int size() {
+        return (removals.length + insertions.length) / 2;
+    }
+
+    /**
+     * Returns whether the two lists were equal.
+     * @return true if the edit script is empty
+     */
+    public boolean isEmpty() {
+        return removals.length == 0 && insertions.length == 0;
+    }
+
+    /**
+     * Applies the edit script to the old list, turning it into the new list.
+     * Ranges are removed from the end first, then runs are inserted from the start,
+     * so every operation fires a single change with valid indices.
+     * @param target the old list
+     * @param newItems the new items the script was computed for
+     * @param <T> the type of the items
+     */
+    public <T> void apply(List<T> target, List<? extends T> newItems) {
+        for (int i = 0; i < removals.length; i += 2) {
+            target.subList(removals[i], removals[i + 1]).clear();
+        }
+        for (int i = 0; i < insertions.length; i += 2) {
+            int index = insertions[i];
+            target.addAll(index, newItems.subList(index, index + insertions[i + 1]));
+        }
+    }
+
+    /**
+     * Computes a keyed edit script between two lists.
+     * Items are matched by equality, the longest run of matches that kept their relative order
+     * survives and everything else is removed or inserted. Runs in O(n log n).
+     * @param oldItems the old items
+     * @param newItems the new items
+     * @return the edit script
+     */
+    public static ListDiff compute(Object[] oldItems, Object[] newItems) {
+        Map<Object, ArrayDeque<Integer>> positions = new HashMap<>(oldItems.length * 2);
+        for (int i = 0; i < oldItems.length; i++) {
+            positions.computeIfAbsent(oldItems[i], k -> new ArrayDeque<>(1)).add(i);
+        }
+
+        int[] matches = new int[newItems.length];
+        for (int j = 0; j < newItems.length; j++) {
+            ArrayDeque<Integer> queue = positions.get(newItems[j]);
+            matches[j] = queue == null || queue.isEmpty() ? -1 : queue.poll();
+        }
+
+        boolean[] keptOld = new boolean[oldItems.length];
+        boolean[] keptNew = new boolean[newItems.length];
+        keepLongestIncreasing(matches, keptOld, keptNew);
+
+        int[] removals = new int[oldItems.length * 2];
+        int r = 0;
+        for (int i = oldItems.length - 1; i >= 0; ) {
+            if (keptOld[i]) {
+                i--;
+                continue;
+            }
+            int to = i + 1;
+            while (i >= 0 && !keptOld[i]) {
+                i--;
+            }
+            removals[r++] = i + 1;
+            removals[r++] = to;
+        }
+
+        int[] insertions = new int[newItems.length * 2];
+        int n = 0;
+        for (int j = 0; j < newItems.length; ) {
+            if (keptNew[j]) {
+                j++;
+                continue;
+            }
+            int from = j;
+            while (j < newItems.length && !keptNew[j]) {
+                j++;
+            }
+            insertions[n++] = from;
+            insertions[n++] = j - from;
+        }
+
+        return new ListDiff(Arrays.copyOf(removals, r), Arrays.copyOf(insertions, n));
+    }
+
+    /**
+     * Marks the longest increasing subsequence of matched old positions as kept.
+     * @param matches the matched old position of every new item, or -1
+     * @param keptOld the kept flags of the old items
+     * @param keptNew the kept flags of the new items
+     */
+    private static void keepLongestIncreasing(int[] matches, boolean[] keptOld, boolean[] keptNew) {
+        int[] tails = new int[matches.length];
+        int[] previous = new int[matches.length];
+        int length = 0;
+        for (int j = 0; j < matches.length; j++) {
+            if (matches[j] < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (matches[tails[mid]] < matches[j]) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            previous[j] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = j;
+            if (low == length) {
+                length++;
+            }
+        }
+        for (int j = length > 0 ? tails[length - 1] : -1; j >= 0; j = previous[j]) {
+            keptNew[j] = true;
+            keptOld[matches[j]] = true;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.xss.it.nfx.list.internals;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class ListLayout {
+    /**
+     * Not instantiable.
+     */
+    private ListLayout() {
+    }
+
+    /**
+     * Returns the number of cells per row fitting a width.
+     * @param availableWidth the width available for the cells
+     * @param minCellWidth the minimum width of a cell
+     * @param maxCellsPerRow the maximum number of cells per row
+     * @return the number of cells per row, at least 1
+     */
+    public static int cellsPerRow(double availableWidth, double minCellWidth, int maxCellsPerRow) {
+        return Math.min(maxCellsPerRow, Math.max(1, (int) (availableWidth / minCellWidth)));
+    }
+
+    /**
+     * Returns the number of rows needed for the items.
+     * @param itemCount the number of items
+     * @param cellsPerRow the number of cells per row
+     * @return the number of rows
+     */
+    public static int rowCount(int itemCount, int cellsPerRow) {
+        return (int) Math.ceil((double) itemCount / cellsPerRow);
+    }
+
+    /**
+     * Returns the first row intersecting the viewport.
+     * @param vvalue the vertical scroll position, between 0 and 1
+     * @param contentHeight the height of every row
+     * @param viewportHeight the height of the viewport
+     * @param cellHeight the height of a row
+     * @return the first visible row, at least 0
+     */
+    public static int firstVisibleRow(double vvalue, double contentHeight, double viewportHeight, double cellHeight) {
+        return Math.max(0, (int) (vvalue * (contentHeight - viewportHeight) / cellHeight));
+    }
+
+    /**
+     * Returns the row after the last row intersecting the viewport.
+     * One extra row is included, so a row partially scrolled in at the bottom is laid out.
+     * @param firstVisibleRow the first visible row
+     * @param viewportHeight the height of the viewport
+     * @param cellHeight the height of a row
+     * @param rowCount the number of rows
+     * @return the row after the last visible row, at most the number of rows
+     */
+    public static int lastVisibleRow(int firstVisibleRow, double viewportHeight, double cellHeight, int rowCount) {
+        int visibleRowCount = (int) Math.ceil(viewportHeight / cellHeight) + 1;
+        return Math.min(firstVisibleRow + visibleRowCount, rowCount);
+    }
+
+    /**
+     * Returns the horizontal position of the cell of an item.
+     * @param index the index of the item
+     * @param cellsPerRow the number of cells per row
+     * @param cellWidth the width of a cell
+     * @param leftGap the gap on the left of the first cell of a row
+     * @return the x coordinate of the cell in the content
+     */
+    public static double cellX(int index, int cellsPerRow, double cellWidth, double leftGap) {
+        return (index % cellsPerRow) * cellWidth + leftGap;
+    }
+
+    /**
+     * Returns the vertical position of the cell of an item.
+     * @param index the index of the item
+     * @param cellsPerRow the number of cells per row
+     * @param cellHeight the height of a row
+     * @return the y coordinate of the cell in the content
+     */
+    public static double cellY(int index, int cellsPerRow, double cellHeight) {
+        return (index / cellsPerRow) * cellHeight;
+    }
+}
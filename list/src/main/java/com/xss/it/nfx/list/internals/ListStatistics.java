@@ -0,0 +1,153 @@
+package com.xss.it.nfx.list.internals;
+
+import xss.it.nfx.list.monitor.NfxListStatistics;
+import xss.it.nfx.list.monitor.NfxListViewMXBean;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class ListStatistics implements NfxListViewMXBean {
+    /*
+     * Only written on the FX thread, volatile so JMX threads read consistent values
+     */
+
+    /**
+     * The number of cells created.
+     */
+    private volatile long cellsCreated = 0;
+
+    /**
+     * The number of cells reused.
+     */
+    private volatile long cellsReused = 0;
+
+    /**
+     * The number of live cells.
+     */
+    private volatile int liveCells = 0;
+
+    /**
+     * The number of updateCells invocations.
+     */
+    private volatile long updateCellsCount = 0;
+
+    /**
+     * The time spent in updateCells, in nanoseconds.
+     */
+    private volatile long updateCellsNanos = 0;
+
+    /**
+     * The number of resets.
+     */
+    private volatile long resets = 0;
+
+    /**
+     * The number of selected items.
+     */
+    private volatile int selectedCount = 0;
+
+    /**
+     * The number of items.
+     */
+    private volatile int itemCount = 0;
+
+    /**
+     * Records a cell built by a cell factory.
+     */
+    void cellCreated() {
+        cellsCreated++;
+    }
+
+    /**
+     * Records a pooled cell rebound to an item.
+     */
+    void cellReused() {
+        cellsReused++;
+    }
+
+    /**
+     * Records a layout pass over the visible cells.
+     * @param nanos the duration of the pass
+     */
+    void cellsUpdated(long nanos) {
+        updateCellsCount++;
+        updateCellsNanos += nanos;
+    }
+
+    /**
+     * Records a full reset.
+     */
+    void reset() {
+        resets++;
+    }
+
+    /**
+     * Records the current sizes.
+     * @param liveCells the number of bound cells plus the idle cells of the pool, the shared one if set
+     * @param selectedCount the number of selected items
+     * @param itemCount the number of items
+     */
+    void sizes(int liveCells, int selectedCount, int itemCount) {
+        this.liveCells = liveCells;
+        this.selectedCount = selectedCount;
+        this.itemCount = itemCount;
+    }
+
+    /**
+     * Returns a snapshot of the statistics.
+     * @return the statistics
+     */
+    public NfxListStatistics snapshot() {
+        return new NfxListStatistics(
+                cellsCreated,
+                cellsReused,
+                liveCells,
+                updateCellsCount,
+                updateCellsNanos,
+                resets,
+                selectedCount,
+                itemCount
+        );
+    }
+
+    @Override
+    public long getCellsCreated() {
+        return cellsCreated;
+    }
+
+    @Override
+    public long getCellsReused() {
+        return cellsReused;
+    }
+
+    @Override
+    public int getLiveCells() {
+        return liveCells;
+    }
+
+    @Override
+    public long getUpdateCellsCount() {
+        return updateCellsCount;
+    }
+
+    @Override
+    public long getUpdateCellsNanos() {
+        return updateCellsNanos;
+    }
+
+    @Override
+    public long getResets() {
+        return resets;
+    }
+
+    @Override
+    public int getSelectedCount() {
+        return selectedCount;
+    }
+
+    @Override
+    public int getItemCount() {
+        return itemCount;
+    }
+}
@@ -0,0 +1,350 @@
+package com.xss.it.nfx.list.internals;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+final class OrderTree {
+    /**
+     * The root of the treap, holding the nodes in order.
+     * A position is never stored, it is the rank of the node, so inserting or removing
+     * a node only touches O(log n) nodes instead of shifting every following position.
+     */
+    private Node root;
+
+    /**
+     * The left part of the last split.
+     */
+    private Node splitLeft;
+
+    /**
+     * The right part of the last split.
+     */
+    private Node splitRight;
+
+    /**
+     * Returns the number of nodes.
+     * @return the size of the tree
+     */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the node at a position in O(log n).
+     * @param index the position
+     * @return the node
+     */
+    Node get(int index) {
+        Node node = root;
+        while (node != null) {
+            int left = size(node.left);
+            if (index < left) {
+                node = node.left;
+            }
+            else if (index > left) {
+                index -= left + 1;
+                node = node.right;
+            }
+            else {
+                return node;
+            }
+        }
+        throw new IndexOutOfBoundsException(index);
+    }
+
+    /**
+     * Returns the position of a node in O(log n), walking up to the root.
+     * @param node the node
+     * @return the position of the node
+     */
+    int rank(Node node) {
+        int index = size(node.left);
+        for (Node n = node; n.parent != null; n = n.parent) {
+            if (n.parent.right == n) {
+                index += size(n.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of leading nodes that come before a key, the tree being ordered by that key.
+     * @param comparison compares a node to the key, negative if the node comes before it
+     * @return the position the key would be inserted at
+     */
+    int lowerBound(ToIntFunction<Node> comparison) {
+        int index = 0;
+        Node node = root;
+        while (node != null) {
+            if (comparison.applyAsInt(node) < 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            }
+            else {
+                node = node.left;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Replaces the content of the tree in O(n).
+     * @param nodes the nodes in order
+     */
+    void build(Node[] nodes) {
+        root = build(nodes, 0, nodes.length);
+    }
+
+    /**
+     * Inserts a node at a position.
+     * @param index the position
+     * @param node the node, not in any tree
+     */
+    void insert(int index, Node node) {
+        node.left = null;
+        node.right = null;
+        node.parent = null;
+        node.size = 1;
+        split(root, index);
+        Node right = splitRight;
+        root = merge(merge(splitLeft, node), right);
+    }
+
+    /**
+     * Inserts nodes at a position.
+     * @param index the position of the first node
+     * @param nodes the nodes in order, not in any tree
+     */
+    void insertAll(int index, Node[] nodes) {
+        split(root, index);
+        Node left = splitLeft;
+        Node right = splitRight;
+        root = merge(merge(left, build(nodes, 0, nodes.length)), right);
+    }
+
+    /**
+     * Removes a node.
+     * @param node the node
+     * @return the position the node had
+     */
+    int remove(Node node) {
+        int index = rank(node);
+        removeRange(index, index + 1);
+        return index;
+    }
+
+    /**
+     * Removes the nodes of a range.
+     * @param from the first position, inclusive
+     * @param to the last position, exclusive
+     * @return the removed nodes in order
+     */
+    Node[] removeRange(int from, int to) {
+        split(root, to);
+        Node right = splitRight;
+        split(splitLeft, from);
+        Node left = splitLeft;
+        Node[] removed = new Node[to - from];
+        int[] position = {0};
+        forEach(splitRight, node -> removed[position[0]++] = node);
+        root = merge(left, right);
+        return removed;
+    }
+
+    /**
+     * Visits the nodes in order.
+     * @param action the action to run on every node
+     */
+    void forEach(Consumer<Node> action) {
+        forEach(root, action);
+    }
+
+    /**
+     * Splits a treap into its first k nodes and the rest,
+     * stored in {@link #splitLeft} and {@link #splitRight}.
+     * @param node the root of the treap
+     * @param k the number of nodes of the left part
+     */
+    private void split(Node node, int k) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+            return;
+        }
+        if (size(node.left) < k) {
+            split(node.right, k - size(node.left) - 1);
+            node.right = splitLeft;
+            if (splitLeft != null) {
+                splitLeft.parent = node;
+            }
+            node.update();
+            node.parent = null;
+            splitLeft = node;
+        }
+        else {
+            split(node.left, k);
+            node.left = splitRight;
+            if (splitRight != null) {
+                splitRight.parent = node;
+            }
+            node.update();
+            node.parent = null;
+            splitRight = node;
+        }
+    }
+
+    /**
+     * Concatenates two treaps.
+     * @param left the root of the left treap
+     * @param right the root of the right treap
+     * @return the root of the merged treap
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.right.parent = left;
+            left.update();
+            left.parent = null;
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.left.parent = right;
+        right.update();
+        right.parent = null;
+        return right;
+    }
+
+    /**
+     * Builds a treap from nodes in order in O(n).
+     * @param all the nodes
+     * @param from the first node, inclusive
+     * @param to the last node, exclusive
+     * @return the root of the treap
+     */
+    private static Node build(Node[] all, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        Node[] stack = new Node[to - from];
+        int top = 0;
+        for (int i = from; i < to; i++) {
+            Node node = all[i];
+            node.left = null;
+            node.right = null;
+            node.parent = null;
+            Node last = null;
+            while (top > 0 && stack[top - 1].priority < node.priority) {
+                last = stack[--top];
+            }
+            node.left = last;
+            if (last != null) {
+                last.parent = node;
+            }
+            if (top > 0) {
+                stack[top - 1].right = node;
+                node.parent = stack[top - 1];
+            }
+            stack[top++] = node;
+        }
+        computeSizes(stack[0]);
+        return stack[0];
+    }
+
+    /**
+     * Recomputes the subtree sizes of a freshly built treap.
+     * @param node the root of the treap
+     * @return the size of the treap
+     */
+    private static int computeSizes(Node node) {
+        if (node == null) {
+            return 0;
+        }
+        node.size = computeSizes(node.left) + computeSizes(node.right) + 1;
+        return node.size;
+    }
+
+    /**
+     * Visits the nodes of a treap in order.
+     * @param node the root of the treap
+     * @param action the action to run on every node
+     */
+    private static void forEach(Node node, Consumer<Node> action) {
+        if (node == null) {
+            return;
+        }
+        forEach(node.left, action);
+        action.accept(node);
+        forEach(node.right, action);
+    }
+
+    /**
+     * Returns the size of a treap.
+     * @param node the root of the treap
+     * @return the number of nodes, 0 for null
+     */
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A treap node holding one item. Owners extend it to attach their own state to the nodes.
+     */
+    static class Node {
+        /**
+         * The item.
+         */
+        final Object item;
+
+        /**
+         * The random heap priority.
+         */
+        private final int priority;
+
+        /**
+         * The number of nodes in the subtree.
+         */
+        private int size = 1;
+
+        /**
+         * The left child.
+         */
+        private Node left;
+
+        /**
+         * The right child.
+         */
+        private Node right;
+
+        /**
+         * The parent, null for the root.
+         */
+        private Node parent;
+
+        /**
+         * Constructs a Node that is not in a tree yet, with a random heap priority.
+         * @param item the item
+         */
+        Node(Object item) {
+            this.item = item;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+
+        /**
+         * Recomputes the subtree size from the children.
+         */
+        private void update() {
+            size = OrderTree.size(left) + OrderTree.size(right) + 1;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.xss.it.nfx.list.internals;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+@Name("xss.it.nfx.list.Reset")
+@Label("Reset")
+@Category({"NfxListView"})
+@Description("A reset of the list view, dropping every cell")
+final class ResetEvent extends Event {
+    /**
+     * The number of bound and pooled cells dropped.
+     */
+    @Label("Cells Discarded")
+    int cellsDiscarded;
+}
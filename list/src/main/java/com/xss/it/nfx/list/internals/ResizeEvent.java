@@ -0,0 +1,35 @@
+package com.xss.it.nfx.list.internals;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+@Name("xss.it.nfx.list.Resize")
+@Label("Resize")
+@Category({"NfxListView"})
+@Description("A resize of the list view, recomputing the number of cells per row before updating the cells")
+final class ResizeEvent extends Event {
+    /**
+     * The number of cells per row after the resize.
+     */
+    @Label("Cells Per Row")
+    int cellsPerRow;
+
+    /**
+     * The number of rows shown after the resize.
+     */
+    @Label("Rows Visible")
+    int rowsVisible;
+
+    /**
+     * The number of cells built by cell factories during the resize.
+     */
+    @Label("Cells Created")
+    int cellsCreated;
+}
@@ -0,0 +1,23 @@
+package com.xss.it.nfx.list.internals;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+@Name("xss.it.nfx.list.SelectionChange")
+@Label("Selection Change")
+@Category({"NfxListView"})
+@Description("The processing of a change of the selected items")
+final class SelectionChangeEvent extends Event {
+    /**
+     * The number of items selected or unselected.
+     */
+    @Label("Change Size")
+    int changeSize;
+}
@@ -0,0 +1,29 @@
+package com.xss.it.nfx.list.internals;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+@Name("xss.it.nfx.list.UpdateCells")
+@Label("Update Cells")
+@Category({"NfxListView"})
+@Description("A layout pass binding the visible items to cells or painting them")
+final class UpdateCellsEvent extends Event {
+    /**
+     * The number of rows shown after the pass.
+     */
+    @Label("Rows Visible")
+    int rowsVisible;
+
+    /**
+     * The number of cells built by cell factories during the pass.
+     */
+    @Label("Cells Created")
+    int cellsCreated;
+}
@@ -0,0 +1,28 @@
+package com.xss.it.nfx.list.skin;
+
+import com.xss.it.nfx.list.internals.IndexedFlow;
+import javafx.scene.control.SkinBase;
+import xss.it.nfx.list.primitive.NfxPrimitiveListView;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public class IndexedListViewSkin extends SkinBase<NfxPrimitiveListView<?, ?, ?>> {
+    /**
+     * The style class for the IndexedListViewSkin.
+     */
+    private static final String STYLE_CLASS = "nfx-base";
+
+    /**
+     * Constructs an IndexedListViewSkin.
+     * @param listView the NfxPrimitiveListView to be skinned
+     * @param flow the delegate IndexedFlow
+     */
+    public IndexedListViewSkin(NfxPrimitiveListView<?, ?, ?> listView, IndexedFlow flow) {
+        super(listView);
+        getSkinnable().getStyleClass().add(STYLE_CLASS);
+        getChildren().add(flow);
+        getSkinnable().setPrefSize(200, 200);
+    }
+}
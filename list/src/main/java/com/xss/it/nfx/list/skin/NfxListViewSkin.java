@@ -2,10 +2,13 @@ package com.xss.it.nfx.list.skin;
 
 
 import com.xss.it.nfx.list.internals.BaseListView;
+import com.xss.it.nfx.list.internals.DebugOverlay;
 import com.xss.it.nfx.list.misc.Anima;
 import javafx.animation.Timeline;
+import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
 import javafx.scene.control.SkinBase;
 import xss.it.nfx.list.NfxListView;
 
@@ -30,6 +33,31 @@ public class NfxListViewSkin<T> extends SkinBase<NfxListView<T>> {
      */
     private final ListChangeListener<T> LISTENER;
 
+    /**
+     * The items listener as registered on the items, weak so items outliving the list view do not retain the skin.
+     */
+    private final WeakListChangeListener<T> weakListener;
+
+    /**
+     * Listener moving the items listener to the new items.
+     */
+    private final InvalidationListener itemsListener = obs -> observeItems();
+
+    /**
+     * Listener showing or hiding the debug overlay.
+     */
+    private final InvalidationListener debugOverlayListener = obs -> handleDebugOverlay();
+
+    /**
+     * The items list the listener is registered on.
+     */
+    private ObservableList<T> observedItems;
+
+    /**
+     * The performance debug overlay, created the first time it is shown.
+     */
+    private DebugOverlay debugOverlay;
+
     /**
      * Constructs an NfxListViewSkin.
      * @param listView the NfxListView to be skinned
@@ -43,6 +71,7 @@ public class NfxListViewSkin<T> extends SkinBase<NfxListView<T>> {
                 handleListPlaceHolderBasedOnItems(delegate.getItems());
             }
         };
+        this.weakListener = new WeakListChangeListener<>(LISTENER);
         initialize();
     }
 
@@ -55,14 +84,62 @@ public class NfxListViewSkin<T> extends SkinBase<NfxListView<T>> {
         getChildren().add(delegate);
         getSkinnable().setPrefSize(200, 200);
 
-        handleListPlaceHolderBasedOnItems(getSkinnable().getItems());
-        delegate.itemsProperty().addListener((obs, o, items) -> {
-            if (o != null){
-                o.removeListener(LISTENER);
+        observeItems();
+        delegate.itemsProperty().addListener(itemsListener);
+        delegate.debugOverlayProperty().addListener(debugOverlayListener);
+        handleDebugOverlay();
+    }
+
+    /**
+     * Moves the items listener to the current items and updates the placeholder.
+     */
+    private void observeItems() {
+        if (observedItems != null) {
+            observedItems.removeListener(weakListener);
+        }
+        observedItems = delegate.getItems();
+        handleListPlaceHolderBasedOnItems(observedItems);
+        observedItems.addListener(weakListener);
+    }
+
+    /**
+     * Disposes the skin, removing its listeners from the list view and its items.
+     */
+    @Override
+    public void dispose() {
+        if (getSkinnable() == null) {
+            return;
+        }
+        delegate.itemsProperty().removeListener(itemsListener);
+        delegate.debugOverlayProperty().removeListener(debugOverlayListener);
+        if (observedItems != null) {
+            observedItems.removeListener(weakListener);
+            observedItems = null;
+        }
+        if (debugOverlay != null) {
+            debugOverlay.stop();
+        }
+        super.dispose();
+    }
+
+    /**
+     * Shows or hides the performance debug overlay above the list.
+     * The overlay only samples the list view while it is shown.
+     */
+    private void handleDebugOverlay() {
+        if (delegate.isDebugOverlay()) {
+            if (debugOverlay == null) {
+                debugOverlay = new DebugOverlay(delegate);
+            }
+            if (!getChildren().contains(debugOverlay)) {
+                getChildren().add(debugOverlay);
+                debugOverlay.start();
             }
-            handleListPlaceHolderBasedOnItems(items);
-            items.addListener(LISTENER);
-        });
+        }
+        else if (debugOverlay != null) {
+            debugOverlay.stop();
+            getChildren().remove(debugOverlay);
+        }
     }
 
     /**
@@ -79,7 +156,7 @@ public class NfxListViewSkin<T> extends SkinBase<NfxListView<T>> {
                 getChildren().remove(delegate);
                 if (!getChildren().contains(getSkinnable().getPlaceHolder())) {
                     getSkinnable().getPlaceHolder().setOpacity(0);
-                    getChildren().add(getSkinnable().getPlaceHolder());
+                    getChildren().add(0, getSkinnable().getPlaceHolder());
                     Anima.fadeIn(getSkinnable().getPlaceHolder(), delay).play();
                 }
             });
@@ -91,7 +168,7 @@ public class NfxListViewSkin<T> extends SkinBase<NfxListView<T>> {
                 getChildren().remove(getSkinnable().getPlaceHolder());
                 if (!getChildren().contains(delegate)) {
                     delegate.setOpacity(0);
-                    getChildren().add(delegate);
+                    getChildren().add(0, delegate);
                     Anima.fadeIn(delegate, delay*2).play();
                 }
             });
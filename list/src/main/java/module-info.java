@@ -6,10 +6,18 @@ module nfx.list {
     requires javafx.base;
     requires javafx.controls;
     requires javafx.graphics;
+    requires java.management;
+    requires jdk.jfr;
     exports xss.it.nfx.list;
     opens xss.it.nfx.list;
     exports xss.it.nfx.list.event;
     opens xss.it.nfx.list.event;
     exports xss.it.nfx.list.misc;
     opens xss.it.nfx.list.misc;
+    exports xss.it.nfx.list.collections;
+    opens xss.it.nfx.list.collections;
+    exports xss.it.nfx.list.primitive;
+    opens xss.it.nfx.list.primitive;
+    exports xss.it.nfx.list.monitor;
+    opens xss.it.nfx.list.monitor;
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package xss.it.nfx.list;
 
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.*;
 import javafx.css.PseudoClass;
 import javafx.scene.Node;
@@ -25,9 +28,24 @@ public class NfxCell<T> extends Region {
     private ObjectProperty<T> item;
 
     /**
-     * The list view that contains the cell.
+     * The list view that contains the cell, replaced when a shared cell pool moves the cell to another list view.
      */
-    private final NfxListView<T> listView;
+    private NfxListView<T> listView;
+
+    /**
+     * Listener ending the edit when the editing index of the list view is reset.
+     */
+    private final InvalidationListener editingIndexListener;
+
+    /**
+     * The editing index listener as registered on the list view, weak so the list view does not retain the cells it dropped.
+     */
+    private final WeakInvalidationListener weakEditingIndexListener;
+
+    /**
+     * The list view the editing index listener is registered on, null until the cell is used on the FX thread.
+     */
+    private NfxListView<T> listenedListView;
 
     /**
      * The pseudo-class for the selected state.
@@ -51,6 +69,13 @@ public class NfxCell<T> extends Region {
     public NfxCell(NfxListView<T> listView) {
         super();
         this.listView = listView;
+        this.editingIndexListener = obs -> {
+            if (getListView().getEditingIndex() == -1) {
+                setEditing(false);
+                updatingIndex = false;
+            }
+        };
+        this.weakEditingIndexListener = new WeakInvalidationListener(editingIndexListener);
 
         initialize();
     }
@@ -86,13 +111,25 @@ public class NfxCell<T> extends Region {
             }
         });
 
-        listView.editingIndexProperty().addListener((observableValue, number, t1) -> {
-            int index = t1.intValue();
-            if (index == -1){
-                setEditing(false);
-                updatingIndex = false;
+        /*
+         * Cells may be built on a worker thread, listener lists are only touched on the FX thread
+         */
+        if (Platform.isFxApplicationThread()) {
+            listenToListView();
+        }
+    }
+
+    /**
+     * Moves the editing index listener to the current list view.
+     */
+    private void listenToListView() {
+        if (listenedListView != listView) {
+            if (listenedListView != null) {
+                listenedListView.editingIndexProperty().removeListener(weakEditingIndexListener);
             }
-        });
+            listenedListView = listView;
+            listView.editingIndexProperty().addListener(weakEditingIndexListener);
+        }
     }
 
     /**
@@ -207,11 +244,21 @@ public class NfxCell<T> extends Region {
         itemProperty().set(item);
     }
 
+    /**
+     * Unbinds the cell from its item and clears its selected state when it is returned to a pool,
+     * so idle cells neither retain items nor keep a stale selection.
+     */
+    public final void unbind() {
+        setItem(null);
+        setSelected(false);
+    }
+
     /**
      * Updates the cell with the given item.
      * @param item the item to update the cell with
      */
     public void update(T item) {
+        listenToListView();
         setItem(item);
         setSelected(isSelectable(item));
         setEditing(getListView().getEditingIndex()==getIndex(item));
@@ -300,13 +347,22 @@ public class NfxCell<T> extends Region {
         return listView;
     }
 
+    /**
+     * Moves the cell to another list view, used by {@link NfxCellPool}.
+     * @param listView the list view the cell is now part of
+     */
+    final void setListView(NfxListView<T> listView) {
+        this.listView = listView;
+        listenToListView();
+    }
+
     /**
      * Returns the index of the specified item in the list view.
      * @param item the item to find the index of
      * @return the index of the item, or -1 if the list is empty or the item is not found
      */
     public final int getIndex(T item){
-        return getListView().getItems().isEmpty() ? -1 : getListView().getItems().indexOf(item);
+        return getListView().getItems().isEmpty() ? -1 : getListView().indexOf(item);
     }
 
     /**
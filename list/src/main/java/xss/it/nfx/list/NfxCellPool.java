@@ -0,0 +1,115 @@
+package xss.it.nfx.list;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class NfxCellPool<T> {
+    /**
+     * The idle cells by type key.
+     */
+    private final Map<Object, Deque<NfxCell<T>>> cells;
+
+    /**
+     * The maximum number of idle cells kept per type key.
+     */
+    private final int maxCellsPerType;
+
+    /**
+     * The number of idle cells.
+     */
+    private int size = 0;
+
+    /**
+     * Constructs an NfxCellPool.
+     * The pool can be set on any number of list views showing the same cell types, a cell leaving the viewport
+     * of one view is then rebound by whichever view needs a cell of that type next.
+     * List views key their cells by type and by the factory that built them, so views only share cells
+     * when they use the same factory instance, and a view whose factory changed never rebinds older cells.
+     * Cells must not capture the list view they were created for, {@link NfxCell#getListView()} follows the cell.
+     * Must only be used on the FX thread.
+     * @param maxCellsPerType the maximum number of idle cells kept per type key, extra cells are dropped
+     */
+    public NfxCellPool(int maxCellsPerType) {
+        if (maxCellsPerType <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + maxCellsPerType);
+        }
+        this.cells = new HashMap<>();
+        this.maxCellsPerType = maxCellsPerType;
+    }
+
+    /**
+     * Returns the maximum number of idle cells kept per type key.
+     * @return the capacity per type key
+     */
+    public int getMaxCellsPerType() {
+        return maxCellsPerType;
+    }
+
+    /**
+     * Returns the number of idle cells.
+     * @return the number of idle cells of every type
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of idle cells of a type.
+     * @param type the type key, null for the default type
+     * @return the number of idle cells of the type
+     */
+    public int size(Object type) {
+        Deque<NfxCell<T>> idle = cells.get(type);
+        return idle == null ? 0 : idle.size();
+    }
+
+    /**
+     * Takes an idle cell of a type and moves it to a list view.
+     * @param type the type key, null for the default type
+     * @param listView the list view the cell is taken by
+     * @return the cell, not bound to any item yet, or null if there is no idle cell of the type
+     */
+    public NfxCell<T> acquire(Object type, NfxListView<T> listView) {
+        Objects.requireNonNull(listView);
+        Deque<NfxCell<T>> idle = cells.get(type);
+        NfxCell<T> cell = idle == null ? null : idle.poll();
+        if (cell != null) {
+            size--;
+            cell.setListView(listView);
+        }
+        return cell;
+    }
+
+    /**
+     * Returns a cell that left the viewport of its list view to the pool.
+     * The cell is unbound from its item, so the pool does not retain items.
+     * @param type the type key the cell was created for, null for the default type
+     * @param cell the cell
+     * @return true if the cell was kept, false if the pool is full for the type
+     */
+    public boolean release(Object type, NfxCell<T> cell) {
+        Deque<NfxCell<T>> idle = cells.computeIfAbsent(type, key -> new ArrayDeque<>());
+        if (idle.size() >= maxCellsPerType) {
+            return false;
+        }
+        cell.unbind();
+        idle.push(cell);
+        size++;
+        return true;
+    }
+
+    /**
+     * Drops every idle cell.
+     */
+    public void clear() {
+        cells.clear();
+        size = 0;
+    }
+}
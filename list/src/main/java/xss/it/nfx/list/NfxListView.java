@@ -4,9 +4,11 @@ package xss.it.nfx.list;
 import com.xss.it.nfx.list.internals.BaseListView;
 import com.xss.it.nfx.list.skin.NfxListViewSkin;
 import javafx.beans.DefaultProperty;
+import javafx.beans.Observable;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.css.StyleableDoubleProperty;
 import javafx.css.StyleableIntegerProperty;
 import javafx.event.EventHandler;
@@ -15,10 +17,22 @@ import javafx.scene.control.Control;
 import javafx.scene.control.Label;
 import javafx.scene.control.Skin;
 import javafx.util.Callback;
+import javafx.util.Duration;
 import xss.it.nfx.list.event.NfxEditEvent;
+import xss.it.nfx.list.event.NfxSlowCellEvent;
 import xss.it.nfx.list.misc.SelectionModel;
+import xss.it.nfx.list.monitor.NfxCellTiming;
+import xss.it.nfx.list.monitor.NfxListStatistics;
+import xss.it.nfx.list.monitor.NfxListViewMXBean;
 
 import java.net.URL;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.management.ObjectName;
 
 
 /**
@@ -93,6 +107,18 @@ public final class NfxListView<T> extends Control {
         delegate.setItems(items == null ? FXCollections.observableArrayList() : items);
     }
 
+    /**
+     * Replaces the content of the current items list with the given items.
+     * The difference between both lists is computed on a background thread and applied
+     * as fine-grained changes, so the cells, the selection and the scroll position of the
+     * items present in both lists are kept. The current items list must be modifiable.
+     * @param items the new items
+     * @throws IllegalStateException if tail mode is enabled
+     */
+    public void setItemsDiffed(List<? extends T> items) {
+        delegate.setItemsDiffed(items == null ? List.of() : items);
+    }
+
 
     /**
      * Returns the cell factory.
@@ -118,6 +144,326 @@ public final class NfxListView<T> extends Control {
         delegate.setCellFactory(cellFactory);
     }
 
+    /**
+     * Returns the cell type resolver.
+     * @return the callback returning the type key of an item, or null if every item has the same type
+     */
+    public Callback<T, Object> getCellTypeResolver() {
+        return delegate.getCellTypeResolver();
+    }
+
+    /**
+     * Returns the cell type resolver property.
+     * Cells leaving the viewport are pooled by type key and only rebound to items of the same type,
+     * with the factory registered for that type in {@link #getCellFactories()}.
+     * @return the object property for the cell type resolver
+     */
+    public ObjectProperty<Callback<T, Object>> cellTypeResolverProperty() {
+        return delegate.cellTypeResolverProperty();
+    }
+
+    /**
+     * Sets the cell type resolver.
+     * @param cellTypeResolver the callback returning the type key of an item, or null if every item has the same type
+     */
+    public void setCellTypeResolver(Callback<T, Object> cellTypeResolver) {
+        delegate.setCellTypeResolver(cellTypeResolver);
+    }
+
+    /**
+     * Returns the number of rows above and below the viewport whose render models are prepared ahead of time.
+     * @return the overscan in rows
+     */
+    public int getOverscan() {
+        return delegate.getOverscan();
+    }
+
+    /**
+     * Returns the overscan property.
+     * Only {@link NfxTwoPhaseCell} cells have render models to prepare.
+     * @return the integer property for the overscan
+     */
+    public IntegerProperty overscanProperty() {
+        return delegate.overscanProperty();
+    }
+
+    /**
+     * Sets the number of rows above and below the viewport whose render models are prepared ahead of time.
+     * @param overscan the overscan in rows
+     */
+    public void setOverscan(int overscan) {
+        delegate.setOverscan(overscan);
+    }
+
+    /**
+     * Returns the render model of an item for a two-phase cell, preparing it in the background if needed.
+     * @param cell the cell requesting the model
+     * @param item the item
+     * @param preparer the function computing the render model, run on a background thread
+     * @param consumer called on the FX thread once the model is prepared, if it was not ready
+     * @param failure called on the FX thread if the preparation throws
+     * @param <M> the type of the render model
+     * @return the render model if it was already prepared, null otherwise
+     */
+    <M> M requestModel(NfxCell<T> cell, T item, Function<? super T, ? extends M> preparer, BiConsumer<T, M> consumer, BiConsumer<T, Throwable> failure) {
+        return delegate.requestModel(cell, item, preparer, consumer, failure);
+    }
+
+    /**
+     * Returns the number of idle cells kept ready per cell type.
+     * @return the prewarm size, 0 if cells are only built when needed
+     */
+    public int getPrewarmSize() {
+        return delegate.getPrewarmSize();
+    }
+
+    /**
+     * Returns the prewarm size property.
+     * When positive, cells are built off the FX thread ahead of time, so scrolling binds ready cells
+     * instead of calling the cell factory inline. Cell factories must then be safe to call from a worker thread.
+     * @return the integer property for the prewarm size
+     */
+    public IntegerProperty prewarmSizeProperty() {
+        return delegate.prewarmSizeProperty();
+    }
+
+    /**
+     * Sets the number of idle cells kept ready per cell type.
+     * @param prewarmSize the prewarm size, 0 to only build cells when needed
+     */
+    public void setPrewarmSize(int prewarmSize) {
+        delegate.setPrewarmSize(prewarmSize);
+    }
+
+    /**
+     * Returns the executor building cells ahead of time.
+     * @return the prewarm executor, or null to use the default worker pool
+     */
+    public Executor getPrewarmExecutor() {
+        return delegate.getPrewarmExecutor();
+    }
+
+    /**
+     * Returns the prewarm executor property.
+     * @return the object property for the prewarm executor
+     */
+    public ObjectProperty<Executor> prewarmExecutorProperty() {
+        return delegate.prewarmExecutorProperty();
+    }
+
+    /**
+     * Sets the executor building cells ahead of time.
+     * @param prewarmExecutor the prewarm executor, or null to use the default worker pool
+     */
+    public void setPrewarmExecutor(Executor prewarmExecutor) {
+        delegate.setPrewarmExecutor(prewarmExecutor);
+    }
+
+    /**
+     * Returns the cell pool shared with other list views.
+     * @return the shared cell pool, or null if the cells are only recycled within this list view
+     */
+    public NfxCellPool<T> getCellPool() {
+        return delegate.getCellPool();
+    }
+
+    /**
+     * Returns the cell pool property.
+     * List views sharing a pool rebind each other's idle cells instead of creating their own.
+     * @return the object property for the cell pool
+     */
+    public ObjectProperty<NfxCellPool<T>> cellPoolProperty() {
+        return delegate.cellPoolProperty();
+    }
+
+    /**
+     * Sets the cell pool shared with other list views.
+     * @param cellPool the shared cell pool, or null to only recycle cells within this list view
+     */
+    public void setCellPool(NfxCellPool<T> cellPool) {
+        delegate.setCellPool(cellPool);
+    }
+
+    /**
+     * Returns the cell factories by type key.
+     * Items whose type key has no factory use the cell factory.
+     * @return the observable map of cell factories
+     */
+    public ObservableMap<Object, Callback<NfxListView<T>, NfxCell<T>>> getCellFactories() {
+        return delegate.getCellFactories();
+    }
+
+
+    /**
+     * Returns the extractor.
+     * @return the callback returning the observables of an item, or null
+     */
+    public Callback<T, Observable[]> getExtractor() {
+        return delegate.getExtractor();
+    }
+
+    /**
+     * Returns the extractor property.
+     * When an observable returned for an item changes, only the cell of that item is updated,
+     * right away if it is visible or when it is scrolled back into view otherwise.
+     * @return the object property for the extractor
+     */
+    public ObjectProperty<Callback<T, Observable[]>> extractorProperty() {
+        return delegate.extractorProperty();
+    }
+
+    /**
+     * Sets the extractor.
+     * @param extractor the callback returning the observables of an item, or null
+     */
+    public void setExtractor(Callback<T, Observable[]> extractor) {
+        delegate.setExtractor(extractor);
+    }
+
+
+    /**
+     * Returns the tail capacity.
+     * @return the maximum number of items kept in tail mode, 0 if tail mode is disabled
+     */
+    public int getTailCapacity() {
+        return delegate.getTailCapacity();
+    }
+
+    /**
+     * Returns the tail capacity property.
+     * A positive capacity turns the list view into a bounded tail, such as a live log viewer:
+     * the items are backed by a {@link xss.it.nfx.list.collections.RingBufferObservableList}
+     * and the oldest items are evicted in O(1) as new ones are appended with {@link #appendTail(Object)}.
+     * Items can still be removed or replaced, but {@link #setItemsDiffed(List)} is not supported in tail mode.
+     * @return the integer property for the tail capacity
+     */
+    public IntegerProperty tailCapacityProperty() {
+        return delegate.tailCapacityProperty();
+    }
+
+    /**
+     * Sets the tail capacity.
+     * @param tailCapacity the maximum number of items kept in tail mode, 0 to disable tail mode
+     */
+    public void setTailCapacity(int tailCapacity) {
+        delegate.setTailCapacity(tailCapacity);
+    }
+
+    /**
+     * Returns whether the view follows the end of the items.
+     * @return true if follow tail is enabled, false otherwise
+     */
+    public boolean isFollowTail() {
+        return delegate.isFollowTail();
+    }
+
+    /**
+     * Returns the follow tail property.
+     * When enabled, the view stays pinned to the bottom as items change, unless the user scrolled away.
+     * @return the boolean property for follow tail
+     */
+    public BooleanProperty followTailProperty() {
+        return delegate.followTailProperty();
+    }
+
+    /**
+     * Sets whether the view follows the end of the items.
+     * @param followTail true to enable follow tail, false otherwise
+     */
+    public void setFollowTail(boolean followTail) {
+        delegate.setFollowTail(followTail);
+    }
+
+    /**
+     * Appends an item in tail mode. Safe to call from any thread,
+     * items appended before the next pulse are added with a single change.
+     * @param item the item
+     * @throws IllegalStateException if tail mode is not enabled
+     */
+    public void appendTail(T item) {
+        delegate.appendTail(item);
+    }
+
+
+    /**
+     * Returns whether item replacements are coalesced per pulse.
+     * @return true if update coalescing is enabled, false otherwise
+     */
+    public boolean isUpdateCoalescing() {
+        return delegate.isUpdateCoalescing();
+    }
+
+    /**
+     * Returns the update coalescing property.
+     * When enabled, {@code getItems().set(index, item)} keeps the cell of the index and rebinds it
+     * on the next pulse, so an index replaced many times per frame costs a single cell update.
+     * @return the boolean property for update coalescing
+     */
+    public BooleanProperty updateCoalescingProperty() {
+        return delegate.updateCoalescingProperty();
+    }
+
+    /**
+     * Sets whether item replacements are coalesced per pulse.
+     * @param updateCoalescing true to enable update coalescing, false otherwise
+     */
+    public void setUpdateCoalescing(boolean updateCoalescing) {
+        delegate.setUpdateCoalescing(updateCoalescing);
+    }
+
+
+    /**
+     * Returns the comparator used to sort the displayed items.
+     * @return the comparator, or null if the items are displayed in their list order
+     */
+    public Comparator<? super T> getComparator() {
+        return delegate.getComparator();
+    }
+
+    /**
+     * Returns the comparator property.
+     * Sorting runs as a parallel sort on a background thread and is then maintained incrementally,
+     * the items list itself is never reordered.
+     * @return the object property for the comparator
+     */
+    public ObjectProperty<Comparator<? super T>> comparatorProperty() {
+        return delegate.comparatorProperty();
+    }
+
+    /**
+     * Sets the comparator used to sort the displayed items.
+     * @param comparator the new comparator, or null to display the items in their list order
+     */
+    public void setComparator(Comparator<? super T> comparator) {
+        delegate.setComparator(comparator);
+    }
+
+    /**
+     * Returns the row painter.
+     * @return the row painter, or null if the rows are rendered by cells
+     */
+    public NfxRowPainter<T> getRowPainter() {
+        return delegate.getRowPainter();
+    }
+
+    /**
+     * Returns the row painter property.
+     * When set, the visible rows are painted into a single canvas instead of being rendered by cells,
+     * for lists of millions of plain rows.
+     * @return the object property for the row painter
+     */
+    public ObjectProperty<NfxRowPainter<T>> rowPainterProperty() {
+        return delegate.rowPainterProperty();
+    }
+
+    /**
+     * Sets the row painter.
+     * @param rowPainter the new row painter, or null to render the rows with cells
+     */
+    public void setRowPainter(NfxRowPainter<T> rowPainter) {
+        delegate.setRowPainter(rowPainter);
+    }
+
 
     /**
      * Returns the selection mode.
@@ -413,6 +759,41 @@ public final class NfxListView<T> extends Control {
         delegate.setLeftGap(leftGap);
     }
 
+    /**
+     * Returns whether a reverse index from items to positions is maintained.
+     * @return true if item indexing is enabled, false otherwise
+     */
+    public boolean isItemIndexing() {
+        return delegate.isItemIndexing();
+    }
+
+    /**
+     * Returns the item indexing property.
+     * When enabled, item lookups such as {@link #indexOf(Object)} and {@link #scrollToItem(Object)}
+     * no longer scan the items, at the cost of a few dozen bytes per item.
+     * @return the boolean property for item indexing
+     */
+    public BooleanProperty itemIndexingProperty() {
+        return delegate.itemIndexingProperty();
+    }
+
+    /**
+     * Sets whether a reverse index from items to positions is maintained.
+     * @param itemIndexing true to enable item indexing, false otherwise
+     */
+    public void setItemIndexing(boolean itemIndexing) {
+        delegate.setItemIndexing(itemIndexing);
+    }
+
+    /**
+     * Returns the index of the first occurrence of an item in the items.
+     * @param item the item
+     * @return the index of the item, or -1 if it is not in the items
+     */
+    public int indexOf(T item) {
+        return delegate.indexOf(item);
+    }
+
     /**
      * Scrolls to the cell containing the specified item.
      * @param item the item to scroll to
@@ -421,6 +802,179 @@ public final class NfxListView<T> extends Control {
         delegate.scrollToItem(item);
     }
 
+    /**
+     * Returns a snapshot of the runtime statistics: cells created and reused, live cells,
+     * layout passes and their cumulative time, resets, selection size and items count.
+     * Safe to call from any thread.
+     * @return the statistics
+     */
+    public NfxListStatistics getStatistics() {
+        return delegate.getStatistics();
+    }
+
+    /**
+     * Registers the runtime statistics in the platform MBean server as an {@link NfxListViewMXBean},
+     * under {@code xss.it.nfx.list:type=NfxListView,name=<name>}.
+     * The list view is retained by the MBean server until {@link #unregisterMBean()} is called.
+     * @param name the name of the list view
+     * @return the object name the statistics are registered under
+     * @throws IllegalStateException if the statistics are already registered or the registration fails
+     */
+    public ObjectName registerMBean(String name) {
+        return delegate.registerMBean(name);
+    }
+
+    /**
+     * Unregisters the runtime statistics from the platform MBean server, if they are registered.
+     */
+    public void unregisterMBean() {
+        delegate.unregisterMBean();
+    }
+
+    /**
+     * Returns whether the performance debug overlay is shown.
+     * @return true if the overlay is shown
+     */
+    public boolean isDebugOverlay() {
+        return delegate.isDebugOverlay();
+    }
+
+    /**
+     * Returns the debug overlay property.
+     * When true, an overlay above the viewport shows the frame rate, the bound and pooled cells,
+     * the cells built per frame, the layout time, the visible index range and the scroll velocity.
+     * Nothing is sampled while it is false.
+     * @return the boolean property for the debug overlay
+     */
+    public BooleanProperty debugOverlayProperty() {
+        return delegate.debugOverlayProperty();
+    }
+
+    /**
+     * Sets whether the performance debug overlay is shown.
+     * @param debugOverlay true to show the overlay
+     */
+    public void setDebugOverlay(boolean debugOverlay) {
+        delegate.setDebugOverlay(debugOverlay);
+    }
+
+    /**
+     * Returns whether the cells built by a cell factory are outlined while the debug overlay is shown.
+     * @return true if rebuilt cells are outlined
+     */
+    public boolean isOutlineRebuiltCells() {
+        return delegate.isOutlineRebuiltCells();
+    }
+
+    /**
+     * Returns the outline rebuilt cells property.
+     * While the debug overlay is shown, cells built by a cell factory get the {@code :rebuilt} pseudo-class
+     * until they are reused for another item, so cells that missed the pool stand out.
+     * @return the boolean property for outlining rebuilt cells
+     */
+    public BooleanProperty outlineRebuiltCellsProperty() {
+        return delegate.outlineRebuiltCellsProperty();
+    }
+
+    /**
+     * Sets whether the cells built by a cell factory are outlined while the debug overlay is shown.
+     * @param outlineRebuiltCells true to outline rebuilt cells
+     */
+    public void setOutlineRebuiltCells(boolean outlineRebuiltCells) {
+        delegate.setOutlineRebuiltCells(outlineRebuiltCells);
+    }
+
+    /**
+     * Returns whether the cell factory and update calls are timed.
+     * @return true if the calls are timed
+     */
+    public boolean isCellTiming() {
+        return delegate.isCellTiming();
+    }
+
+    /**
+     * Returns the cell timing property.
+     * When true, every cell factory call and every {@link NfxCell#update(Object)} made on the FX thread is timed
+     * and attributed to the cell class, see {@link #getCellTimings()}, and calls over the slow cell threshold
+     * fire an {@link NfxSlowCellEvent}. Cells built ahead of time by the prewarm executor are not timed.
+     * @return the boolean property for the cell timing
+     */
+    public BooleanProperty cellTimingProperty() {
+        return delegate.cellTimingProperty();
+    }
+
+    /**
+     * Sets whether the cell factory and update calls are timed.
+     * @param cellTiming true to time the calls
+     */
+    public void setCellTiming(boolean cellTiming) {
+        delegate.setCellTiming(cellTiming);
+    }
+
+    /**
+     * Returns the duration over which a single cell call is reported as slow.
+     * @return the slow cell threshold
+     */
+    public Duration getSlowCellThreshold() {
+        return delegate.getSlowCellThreshold();
+    }
+
+    /**
+     * Returns the slow cell threshold property, 2 milliseconds by default.
+     * @return the object property for the slow cell threshold
+     */
+    public ObjectProperty<Duration> slowCellThresholdProperty() {
+        return delegate.slowCellThresholdProperty();
+    }
+
+    /**
+     * Sets the duration over which a single cell call is reported as slow.
+     * @param slowCellThreshold the slow cell threshold, null to never report
+     */
+    public void setSlowCellThreshold(Duration slowCellThreshold) {
+        delegate.setSlowCellThreshold(slowCellThreshold);
+    }
+
+    /**
+     * Returns the event handler for the slow cell event.
+     * @return the event handler for the slow cell event
+     */
+    public EventHandler<NfxSlowCellEvent> getOnSlowCell() {
+        return delegate.getOnSlowCell();
+    }
+
+    /**
+     * Returns the property for the slow cell event handler.
+     * @return the object property for the slow cell event handler
+     */
+    public ObjectProperty<EventHandler<NfxSlowCellEvent>> onSlowCellProperty() {
+        return delegate.onSlowCellProperty();
+    }
+
+    /**
+     * Sets the event handler for the slow cell event.
+     * @param onSlowCell the event handler for the slow cell event
+     */
+    public void setOnSlowCell(EventHandler<NfxSlowCellEvent> onSlowCell) {
+        delegate.setOnSlowCell(onSlowCell);
+    }
+
+    /**
+     * Returns the timing of the cell factory and update calls, by cell class, recorded while the cell timing is on.
+     * Percentiles cover the last 1024 calls of each cell class and phase.
+     * @return the timings, factory calls first
+     */
+    public List<NfxCellTiming> getCellTimings() {
+        return delegate.getCellTimings();
+    }
+
+    /**
+     * Drops the recorded cell timings.
+     */
+    public void clearCellTimings() {
+        delegate.clearCellTimings();
+    }
+
     /**
      * Returns the selection model for the list view.
      * @return the selection model
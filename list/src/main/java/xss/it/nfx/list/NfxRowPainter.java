@@ -0,0 +1,24 @@
+package xss.it.nfx.list;
+
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+@FunctionalInterface
+public interface NfxRowPainter<T> {
+    /**
+     * Paints an item into the canvas of the list view.
+     * The area is cleared before the visible items are painted, a painter only draws within its bounds.
+     * @param gc the graphics context of the canvas
+     * @param item the item to paint
+     * @param index the rendered index of the item
+     * @param x the x coordinate of the cell area
+     * @param y the y coordinate of the cell area
+     * @param width the width of the cell area
+     * @param height the height of the cell area
+     * @param selected whether the item is selected
+     */
+    void paint(GraphicsContext gc, T item, int index, double x, double y, double width, double height, boolean selected);
+}
@@ -0,0 +1,93 @@
+package xss.it.nfx.list;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public abstract class NfxTwoPhaseCell<T, M> extends NfxCell<T> {
+    /**
+     * Constructs an NfxTwoPhaseCell with the specified list view.
+     * @param listView the list view that contains the cell
+     */
+    public NfxTwoPhaseCell(NfxListView<T> listView) {
+        super(listView);
+    }
+
+    /**
+     * Computes the render model of an item, such as formatted text or decoded images.
+     * Called on a background thread, possibly ahead of time for items that are not visible yet,
+     * and possibly on another cell of the same type than the one the model is applied to.
+     * It must only read the item and never touch the scene graph or the state of the cell.
+     * @param item the item
+     * @return the render model of the item
+     */
+    public abstract M prepare(T item);
+
+    /**
+     * Shows a render model in the cell. Called on the FX thread, it should only assign values.
+     * @param model the render model computed by {@link #prepare(Object)}
+     */
+    protected abstract void apply(M model);
+
+    /**
+     * Shows an item whose render model is not ready yet. Called on the FX thread.
+     * Cells are recycled, so this must clear or replace whatever the previous item left in the cell.
+     * @param item the item
+     */
+    protected abstract void applyPending(T item);
+
+    /**
+     * Shows an item whose render model could not be prepared, {@link #prepare(Object)} having thrown.
+     * Called on the FX thread if the cell still shows the item.
+     * The default implementation keeps the pending state of the cell.
+     * @param item the item
+     * @param error the exception thrown by {@link #prepare(Object)}
+     */
+    protected void applyFailed(T item, Throwable error) {
+        applyPending(item);
+    }
+
+    /**
+     * Updates the cell with the given item.
+     * The render model is applied right away if it was prepared ahead of time,
+     * otherwise it is prepared in the background and applied once ready if the cell still shows the item.
+     * Subclasses overriding this method must call it.
+     * @param item the item to update the cell with
+     */
+    @Override
+    public void update(T item) {
+        super.update(item);
+        if (item == null) {
+            return;
+        }
+        M model = getListView().requestModel(this, item, this::prepare, this::onPrepared, this::onFailed);
+        if (model != null) {
+            apply(model);
+        }
+        else {
+            applyPending(item);
+        }
+    }
+
+    /**
+     * Applies a render model prepared in the background, unless the cell was rebound in the meantime.
+     * @param item the item the model was prepared for
+     * @param model the render model
+     */
+    private void onPrepared(T item, M model) {
+        if (getItem() == item) {
+            apply(model);
+        }
+    }
+
+    /**
+     * Shows the failure of a background preparation, unless the cell was rebound in the meantime.
+     * @param item the item the model was prepared for
+     * @param error the exception thrown by {@link #prepare(Object)}
+     */
+    private void onFailed(T item, Throwable error) {
+        if (getItem() == item) {
+            applyFailed(item, error);
+        }
+    }
+}
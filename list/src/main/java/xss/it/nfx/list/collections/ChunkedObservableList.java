@@ -0,0 +1,542 @@
+package xss.it.nfx.list.collections;
+
+import javafx.collections.ModifiableObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class ChunkedObservableList<E> extends ModifiableObservableListBase<E> {
+    /**
+     * The maximum number of items in a leaf chunk.
+     */
+    private static final int LEAF_CAPACITY = 512;
+
+    /**
+     * The maximum number of children of a branch.
+     */
+    private static final int BRANCH_CAPACITY = 64;
+
+    /**
+     * The number of items per leaf when the tree is bulk loaded, leaving room for inserts.
+     */
+    private static final int LEAF_FILL = LEAF_CAPACITY * 3 / 4;
+
+    /**
+     * Collections larger than this are copied to a hash set before bulk removals.
+     */
+    private static final int HASH_THRESHOLD = 8;
+
+    /**
+     * Index sets smaller than size divided by this are removed one by one instead of rebuilding the tree.
+     */
+    private static final int SPARSE_REMOVAL_RATIO = 64;
+
+    /**
+     * The root of the tree.
+     * Every node knows the size of its subtree, so positional access runs in O(log n).
+     */
+    private Node root;
+
+    /**
+     * Constructs an empty ChunkedObservableList.
+     */
+    public ChunkedObservableList() {
+        this.root = new Leaf();
+    }
+
+    /**
+     * Constructs a ChunkedObservableList holding the given items.
+     * @param items the initial items
+     */
+    public ChunkedObservableList(Collection<? extends E> items) {
+        this.root = build(items.toArray());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, root.size);
+        Node node = root;
+        while (node instanceof Branch branch) {
+            int k = 0;
+            while (index >= branch.children[k].size) {
+                index -= branch.children[k].size;
+                k++;
+            }
+            node = branch.children[k];
+        }
+        return (E) ((Leaf) node).items[index];
+    }
+
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[root.size];
+        copyInto(root, array, 0);
+        return array;
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        Objects.checkIndex(index, root.size + 1);
+        Node split = insert(root, index, element);
+        if (split != null) {
+            Branch branch = new Branch();
+            branch.children[0] = root;
+            branch.children[1] = split;
+            branch.count = 2;
+            branch.size = root.size + split.size;
+            root = branch;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected E doSet(int index, E element) {
+        Objects.checkIndex(index, root.size);
+        Node node = root;
+        while (node instanceof Branch branch) {
+            int k = 0;
+            while (index >= branch.children[k].size) {
+                index -= branch.children[k].size;
+                k++;
+            }
+            node = branch.children[k];
+        }
+        Leaf leaf = (Leaf) node;
+        E old = (E) leaf.items[index];
+        leaf.items[index] = element;
+        return old;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected E doRemove(int index) {
+        Objects.checkIndex(index, root.size);
+        E removed = (E) remove(root, index);
+        while (root instanceof Branch branch && branch.count == 1) {
+            root = branch.children[0];
+        }
+        if (root.size == 0) {
+            root = new Leaf();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the items at the given indices in a single pass and fires a single change.
+     * Duplicate and unsorted indices are accepted.
+     * @param indices the indices of the items to remove
+     */
+    public void removeIndices(int... indices) {
+        BitSet set = new BitSet(root.size);
+        for (int index : indices) {
+            Objects.checkIndex(index, root.size);
+            set.set(index);
+        }
+        removeIndices(set);
+    }
+
+    /**
+     * Removes the items at the set bits of the given index set and fires a single change.
+     * Sparse sets are removed in O(s log n), dense sets in a single O(n) pass.
+     * @param indices the index set of the items to remove
+     */
+    public void removeIndices(BitSet indices) {
+        if (indices.isEmpty()) {
+            return;
+        }
+        Objects.checkIndex(indices.length() - 1, root.size);
+        if (indices.cardinality() < root.size / SPARSE_REMOVAL_RATIO) {
+            beginChange();
+            for (int i = indices.length() - 1; i >= 0; i = indices.previousSetBit(i - 1)) {
+                nextRemove(i, doRemove(i));
+            }
+            endChange();
+            return;
+        }
+
+        Object[] items = toArray();
+        Object[] kept = new Object[items.length - indices.cardinality()];
+        int k = 0;
+        for (int i = 0; i < items.length; i++) {
+            if (!indices.get(i)) {
+                kept[k++] = items[i];
+            }
+        }
+
+        beginChange();
+        for (int i = indices.length() - 1; i >= 0; i = indices.previousSetBit(i - 1)) {
+            int from = i;
+            while (from > 0 && indices.get(from - 1)) {
+                from--;
+            }
+            nextRemove(from, removedRange(items, from, i + 1));
+            i = from;
+        }
+        root = build(kept);
+        endChange();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeMatching(lookup(c), true);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeMatching(lookup(c), false);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        Object[] items = toArray();
+        beginChange();
+        if (items.length > 0) {
+            nextRemove(0, removedRange(items, 0, items.length));
+        }
+        root = build(col.toArray());
+        if (root.size > 0) {
+            nextAdd(0, root.size);
+        }
+        endChange();
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == 0 && toIndex == root.size) {
+            if (toIndex == 0) {
+                return;
+            }
+            Object[] items = toArray();
+            beginChange();
+            nextRemove(0, removedRange(items, 0, items.length));
+            root = new Leaf();
+            endChange();
+        }
+        else {
+            super.removeRange(fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * Removes the items whose membership in a collection matches the given flag.
+     * @param c the collection
+     * @param contained true to remove the contained items, false to remove the others
+     * @return true if the list changed
+     */
+    private boolean removeMatching(Collection<?> c, boolean contained) {
+        Object[] items = toArray();
+        BitSet set = new BitSet(items.length);
+        for (int i = 0; i < items.length; i++) {
+            if (c.contains(items[i]) == contained) {
+                set.set(i);
+            }
+        }
+        removeIndices(set);
+        return !set.isEmpty();
+    }
+
+    /**
+     * Returns a collection with a cheap contains for bulk removals.
+     * @param c the collection
+     * @return the collection itself if it is small or a set, a hash set copy otherwise
+     */
+    private static Collection<?> lookup(Collection<?> c) {
+        return c instanceof Set<?> || c.size() <= HASH_THRESHOLD ? c : new HashSet<>(c);
+    }
+
+    /**
+     * Returns a copy of a range of items, used as the removed list of a change.
+     * @param items the items
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @return the items of the range
+     */
+    @SuppressWarnings("unchecked")
+    private List<E> removedRange(Object[] items, int from, int to) {
+        return (List<E>) new ArrayList<>(Arrays.asList(items).subList(from, to));
+    }
+
+    /**
+     * Inserts an item in a subtree.
+     * @param node the root of the subtree
+     * @param index the index within the subtree
+     * @param element the item
+     * @return the new right sibling if the node was split, null otherwise
+     */
+    private static Node insert(Node node, int index, Object element) {
+        if (node instanceof Leaf leaf) {
+            if (leaf.size < LEAF_CAPACITY) {
+                System.arraycopy(leaf.items, index, leaf.items, index + 1, leaf.size - index);
+                leaf.items[index] = element;
+                leaf.size++;
+                return null;
+            }
+            int half = LEAF_CAPACITY / 2;
+            Leaf right = new Leaf();
+            System.arraycopy(leaf.items, half, right.items, 0, LEAF_CAPACITY - half);
+            Arrays.fill(leaf.items, half, LEAF_CAPACITY, null);
+            right.size = LEAF_CAPACITY - half;
+            leaf.size = half;
+            if (index <= half) {
+                insert(leaf, index, element);
+            }
+            else {
+                insert(right, index - half, element);
+            }
+            return right;
+        }
+
+        Branch branch = (Branch) node;
+        int k = 0;
+        /*
+         * An index at the boundary of two children goes to the end of the left one
+         */
+        while (k < branch.count - 1 && index > branch.children[k].size) {
+            index -= branch.children[k].size;
+            k++;
+        }
+        branch.size++;
+        Node split = insert(branch.children[k], index, element);
+        if (split == null) {
+            return null;
+        }
+        if (branch.count < BRANCH_CAPACITY) {
+            System.arraycopy(branch.children, k + 1, branch.children, k + 2, branch.count - k - 1);
+            branch.children[k + 1] = split;
+            branch.count++;
+            return null;
+        }
+
+        Node[] children = new Node[BRANCH_CAPACITY + 1];
+        System.arraycopy(branch.children, 0, children, 0, k + 1);
+        children[k + 1] = split;
+        System.arraycopy(branch.children, k + 1, children, k + 2, BRANCH_CAPACITY - k - 1);
+        int half = children.length / 2;
+        Branch right = new Branch();
+        Arrays.fill(branch.children, null);
+        System.arraycopy(children, 0, branch.children, 0, half);
+        System.arraycopy(children, half, right.children, 0, children.length - half);
+        branch.count = half;
+        right.count = children.length - half;
+        branch.size = branch.sumSizes();
+        right.size = right.sumSizes();
+        return right;
+    }
+
+    /**
+     * Removes an item from a subtree, merging chunks that became too small.
+     * @param node the root of the subtree
+     * @param index the index within the subtree
+     * @return the removed item
+     */
+    private static Object remove(Node node, int index) {
+        if (node instanceof Leaf leaf) {
+            Object removed = leaf.items[index];
+            System.arraycopy(leaf.items, index + 1, leaf.items, index, leaf.size - index - 1);
+            leaf.size--;
+            leaf.items[leaf.size] = null;
+            return removed;
+        }
+
+        Branch branch = (Branch) node;
+        int k = 0;
+        while (index >= branch.children[k].size) {
+            index -= branch.children[k].size;
+            k++;
+        }
+        Node child = branch.children[k];
+        Object removed = remove(child, index);
+        branch.size--;
+
+        if (child.size == 0) {
+            System.arraycopy(branch.children, k + 1, branch.children, k, branch.count - k - 1);
+            branch.children[--branch.count] = null;
+        }
+        else if (child.isUnderfull()) {
+            if (k + 1 < branch.count && child.canMerge(branch.children[k + 1])) {
+                child.merge(branch.children[k + 1]);
+                System.arraycopy(branch.children, k + 2, branch.children, k + 1, branch.count - k - 2);
+                branch.children[--branch.count] = null;
+            }
+            else if (k > 0 && branch.children[k - 1].canMerge(child)) {
+                branch.children[k - 1].merge(child);
+                System.arraycopy(branch.children, k + 1, branch.children, k, branch.count - k - 1);
+                branch.children[--branch.count] = null;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Copies the items of a subtree into an array.
+     * @param node the root of the subtree
+     * @param array the target array
+     * @param offset the position of the first item of the subtree in the array
+     */
+    private static void copyInto(Node node, Object[] array, int offset) {
+        if (node instanceof Leaf leaf) {
+            System.arraycopy(leaf.items, 0, array, offset, leaf.size);
+            return;
+        }
+        Branch branch = (Branch) node;
+        for (int k = 0; k < branch.count; k++) {
+            copyInto(branch.children[k], array, offset);
+            offset += branch.children[k].size;
+        }
+    }
+
+    /**
+     * Bulk loads a tree from an array of items in O(n).
+     * @param items the items
+     * @return the root of the tree
+     */
+    private static Node build(Object[] items) {
+        if (items.length <= LEAF_CAPACITY) {
+            Leaf leaf = new Leaf();
+            System.arraycopy(items, 0, leaf.items, 0, items.length);
+            leaf.size = items.length;
+            return leaf;
+        }
+
+        List<Node> level = new ArrayList<>(items.length / LEAF_FILL + 1);
+        for (int i = 0; i < items.length; i += LEAF_FILL) {
+            Leaf leaf = new Leaf();
+            leaf.size = Math.min(LEAF_FILL, items.length - i);
+            System.arraycopy(items, i, leaf.items, 0, leaf.size);
+            level.add(leaf);
+        }
+        int fanOut = BRANCH_CAPACITY * 3 / 4;
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>(level.size() / fanOut + 1);
+            for (int i = 0; i < level.size(); i += fanOut) {
+                Branch branch = new Branch();
+                branch.count = Math.min(fanOut, level.size() - i);
+                for (int k = 0; k < branch.count; k++) {
+                    branch.children[k] = level.get(i + k);
+                }
+                branch.size = branch.sumSizes();
+                parents.add(branch);
+            }
+            level = parents;
+        }
+        return level.get(0);
+    }
+
+    /**
+     * A node of the tree, knowing the number of items in its subtree.
+     */
+    private abstract static class Node {
+        /**
+         * The number of items in the subtree.
+         */
+        int size;
+
+        /**
+         * Returns whether the node should be merged with a sibling.
+         * @return true if the node is less than a quarter full
+         */
+        abstract boolean isUnderfull();
+
+        /**
+         * Returns whether a right sibling fits into this node.
+         * @param right the right sibling
+         * @return true if both nodes fit into one
+         */
+        abstract boolean canMerge(Node right);
+
+        /**
+         * Moves the content of a right sibling to the end of this node.
+         * @param right the right sibling
+         */
+        abstract void merge(Node right);
+    }
+
+    /**
+     * A leaf chunk holding the items.
+     */
+    private static final class Leaf extends Node {
+        /**
+         * The items of the chunk.
+         */
+        final Object[] items = new Object[LEAF_CAPACITY];
+
+        @Override
+        boolean isUnderfull() {
+            return size < LEAF_CAPACITY / 4;
+        }
+
+        @Override
+        boolean canMerge(Node right) {
+            return size + right.size <= LEAF_CAPACITY;
+        }
+
+        @Override
+        void merge(Node right) {
+            Leaf leaf = (Leaf) right;
+            System.arraycopy(leaf.items, 0, items, size, leaf.size);
+            size += leaf.size;
+        }
+    }
+
+    /**
+     * A branch holding the child nodes.
+     */
+    private static final class Branch extends Node {
+        /**
+         * The child nodes.
+         */
+        final Node[] children = new Node[BRANCH_CAPACITY];
+
+        /**
+         * The number of child nodes.
+         */
+        int count;
+
+        @Override
+        boolean isUnderfull() {
+            return count < BRANCH_CAPACITY / 4;
+        }
+
+        @Override
+        boolean canMerge(Node right) {
+            return right instanceof Branch branch && count + branch.count <= BRANCH_CAPACITY;
+        }
+
+        @Override
+        void merge(Node right) {
+            Branch branch = (Branch) right;
+            System.arraycopy(branch.children, 0, children, count, branch.count);
+            count += branch.count;
+            size += branch.size;
+        }
+
+        /**
+         * Returns the sum of the sizes of the child nodes.
+         * @return the number of items in the subtree
+         */
+        int sumSizes() {
+            int sum = 0;
+            for (int k = 0; k < count; k++) {
+                sum += children[k].size;
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,581 @@
+package xss.it.nfx.list.collections;
+
+import javafx.collections.ModifiableObservableListBase;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class ColumnarObservableList extends ModifiableObservableListBase<ColumnarObservableList.Row> {
+    /**
+     * The size of an off-heap segment holding string bytes.
+     */
+    private static final int SEGMENT_SIZE = 1 << 20;
+
+    /**
+     * The bit shift turning a column position into a segment index.
+     */
+    private static final int SEGMENT_SHIFT = 20;
+
+    /**
+     * The number of bytes a column can address with an unsigned 32 bit position.
+     */
+    private static final long MAX_COLUMN_BYTES = 0xFFFFFFFFL;
+
+    /**
+     * The reference marking a null value.
+     */
+    private static final int NULL_REF = -1;
+
+    /**
+     * The names of the columns.
+     */
+    private final List<String> columnNames;
+
+    /**
+     * The position of every column by name.
+     */
+    private final Map<String, Integer> columnIndices;
+
+    /**
+     * The columns.
+     */
+    private final StringColumn[] columns;
+
+    /**
+     * The row ids in list order.
+     */
+    private int[] order;
+
+    /**
+     * The number of rows in the list.
+     */
+    private int size = 0;
+
+    /**
+     * The number of row ids handed out.
+     */
+    private int rowCount = 0;
+
+    /**
+     * The ids freed by the last compaction, reused by the next records.
+     */
+    private int[] freeIds = new int[0];
+
+    /**
+     * The number of ids in {@link #freeIds} not reused yet.
+     */
+    private int freeCount = 0;
+
+    /**
+     * Constructs an empty ColumnarObservableList.
+     * @param columnNames the names of the string columns
+     */
+    public ColumnarObservableList(String... columnNames) {
+        this(List.of(columnNames));
+    }
+
+    /**
+     * Constructs an empty ColumnarObservableList.
+     * @param columnNames the names of the string columns
+     */
+    public ColumnarObservableList(List<String> columnNames) {
+        if (columnNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one column is required");
+        }
+        this.columnNames = List.copyOf(columnNames);
+        this.columnIndices = new HashMap<>();
+        this.columns = new StringColumn[this.columnNames.size()];
+        for (int i = 0; i < columns.length; i++) {
+            if (columnIndices.put(this.columnNames.get(i), i) != null) {
+                throw new IllegalArgumentException("Duplicate column: " + this.columnNames.get(i));
+            }
+            columns[i] = new StringColumn();
+        }
+        this.order = new int[16];
+    }
+
+    /**
+     * Returns the names of the columns.
+     * @return the column names, in column order
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Returns the position of a column.
+     * @param name the name of the column
+     * @return the column position
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public int getColumnIndex(String name) {
+        Integer index = columnIndices.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown column: " + name);
+        }
+        return index;
+    }
+
+    /**
+     * Stores a record and appends its row at the end of the list.
+     * @param values the value of every column, in column order, null values are allowed
+     * @return the row of the record
+     */
+    public Row addRow(String... values) {
+        Row row = createRow(values);
+        add(row);
+        return row;
+    }
+
+    /**
+     * Stores records and appends their rows at the end of the list, with a single change.
+     * @param records the records, every record holds the value of every column in column order
+     */
+    public void addRows(List<String[]> records) {
+        List<Row> rows = new ArrayList<>(records.size());
+        for (String[] values : records) {
+            rows.add(createRow(values));
+        }
+        addAll(rows);
+    }
+
+    /**
+     * Stores a record without adding it to the list.
+     * The row can be added later, for instance with {@link #setAll(java.util.Collection)}.
+     * A record stays stored while it is not in the list, removed rows included, until {@link #compact()} runs.
+     * @param values the value of every column, in column order, null values are allowed
+     * @return the row of the record
+     */
+    public Row createRow(String... values) {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException("Expected " + columns.length + " values, got " + values.length);
+        }
+        int id = freeCount > 0 ? freeIds[--freeCount] : rowCount++;
+        for (int c = 0; c < columns.length; c++) {
+            columns[c].set(id, values[c]);
+        }
+        return new Row(this, id);
+    }
+
+    /**
+     * Changes a value of the row at an index and fires an update change for it.
+     * @param index the index of the row
+     * @param column the position of the column
+     * @param value the new value, or null
+     */
+    public void setValue(int index, int column, String value) {
+        Objects.checkIndex(index, size);
+        columns[column].set(order[index], value);
+        beginChange();
+        nextUpdate(index);
+        endChange();
+    }
+
+    /**
+     * Returns the indices of the rows whose value in a column matches a predicate.
+     * Every value is decoded, prefer {@link #scanContains(int, String, boolean)} for substring filters.
+     * @param column the position of the column
+     * @param predicate the predicate, receiving null for null values
+     * @return the matching indices
+     */
+    public BitSet scan(int column, Predicate<String> predicate) {
+        StringColumn values = columns[column];
+        BitSet matches = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values.get(order[i]))) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the indices of the rows whose value in a column contains a string.
+     * The encoded bytes are searched in place, no value is decoded.
+     * @param column the position of the column
+     * @param needle the string to search for
+     * @param ignoreCase true to ignore the case of ASCII letters
+     * @return the matching indices
+     */
+    public BitSet scanContains(int column, String needle, boolean ignoreCase) {
+        byte[] pattern = needle.getBytes(StandardCharsets.UTF_8);
+        if (ignoreCase) {
+            for (int i = 0; i < pattern.length; i++) {
+                pattern[i] = toLowerAscii(pattern[i]);
+            }
+        }
+        StringColumn values = columns[column];
+        BitSet matches = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (values.contains(order[i], pattern, ignoreCase)) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Reclaims the storage of the records that are not in the list and of replaced values.
+     * Removing a row only drops it from the list, so a workload that keeps creating rows, such as
+     * a filter rebuilding its records, grows the store until it is compacted.
+     * The rows in the list keep their identity. The rows of the other records become invalid,
+     * their ids are reused by the next records, so they must not be added back.
+     * Runs in O(n) of the stored bytes.
+     */
+    public void compact() {
+        BitSet live = new BitSet(rowCount);
+        for (int i = 0; i < size; i++) {
+            live.set(order[i]);
+        }
+        for (StringColumn column : columns) {
+            column.compact(live, rowCount);
+        }
+        freeIds = new int[rowCount - live.cardinality()];
+        freeCount = 0;
+        for (int id = live.nextClearBit(0); id < rowCount; id = live.nextClearBit(id + 1)) {
+            freeIds[freeCount++] = id;
+        }
+    }
+
+    /**
+     * Returns the number of off-heap bytes used by the string columns.
+     * @return the allocated off-heap bytes
+     */
+    public long getOffHeapBytes() {
+        long bytes = 0;
+        for (StringColumn column : columns) {
+            for (ByteBuffer segment : column.segments) {
+                bytes += segment.capacity();
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public Row get(int index) {
+        Objects.checkIndex(index, size);
+        return new Row(this, order[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, Row element) {
+        Objects.checkIndex(index, size + 1);
+        int id = idOf(element);
+        if (size == order.length) {
+            order = Arrays.copyOf(order, size + (size >> 1) + 1);
+        }
+        System.arraycopy(order, index, order, index + 1, size - index);
+        order[index] = id;
+        size++;
+    }
+
+    @Override
+    protected Row doSet(int index, Row element) {
+        Objects.checkIndex(index, size);
+        int id = idOf(element);
+        Row old = new Row(this, order[index]);
+        order[index] = id;
+        return old;
+    }
+
+    @Override
+    protected Row doRemove(int index) {
+        Objects.checkIndex(index, size);
+        Row old = new Row(this, order[index]);
+        System.arraycopy(order, index + 1, order, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    /**
+     * Returns the id of a row, checking that it belongs to this list.
+     * @param row the row
+     * @return the row id
+     */
+    private int idOf(Row row) {
+        if (row == null || row.store != this) {
+            throw new IllegalArgumentException("Rows can only be added to the list that created them");
+        }
+        return row.id;
+    }
+
+    /**
+     * Lowers the case of an ASCII letter.
+     * @param b the byte
+     * @return the lower case byte
+     */
+    private static byte toLowerAscii(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    /**
+     * A flyweight view of a stored record.
+     * A row only holds its list and id, values are read from the columns on demand.
+     * Two rows are equal when they view the same record.
+     */
+    public static final class Row {
+        /**
+         * The list holding the record.
+         */
+        private final ColumnarObservableList store;
+
+        /**
+         * The id of the record.
+         */
+        private final int id;
+
+        /**
+         * Constructs a Row.
+         * @param store the list holding the record
+         * @param id the id of the record
+         */
+        private Row(ColumnarObservableList store, int id) {
+            this.store = store;
+            this.id = id;
+        }
+
+        /**
+         * Returns a value of the record.
+         * @param column the position of the column
+         * @return the value, or null
+         */
+        public String get(int column) {
+            return store.columns[column].get(id);
+        }
+
+        /**
+         * Returns a value of the record.
+         * @param column the name of the column
+         * @return the value, or null
+         */
+        public String get(String column) {
+            return get(store.getColumnIndex(column));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Row row && row.store == store && row.id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(id) * 31 + System.identityHashCode(store);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("Row{");
+            for (int c = 0; c < store.columns.length; c++) {
+                if (c > 0) {
+                    builder.append(", ");
+                }
+                builder.append(store.columnNames.get(c)).append('=').append(get(c));
+            }
+            return builder.append('}').toString();
+        }
+    }
+
+    /**
+     * A string column, its values stored as length-prefixed UTF-8 bytes in off-heap segments.
+     * A row costs a 4 byte reference on the heap, values never span two segments.
+     * Replaced values and the values of removed rows are only reclaimed by a compaction.
+     */
+    private static final class StringColumn {
+        /**
+         * The off-heap segments, each {@link #SEGMENT_SIZE} bytes long.
+         */
+        private final List<ByteBuffer> segments = new ArrayList<>();
+
+        /**
+         * The position of the value of every row id in the column, unsigned, or {@link #NULL_REF}.
+         */
+        private int[] refs = new int[16];
+
+        /**
+         * The position the next value is written at.
+         */
+        private long writePosition = 0;
+
+        /**
+         * Stores the value of a row.
+         * @param id the row id
+         * @param value the value, or null
+         */
+        void set(int id, String value) {
+            if (id >= refs.length) {
+                refs = Arrays.copyOf(refs, Math.max(id + 1, refs.length + (refs.length >> 1)));
+            }
+            if (value == null) {
+                refs[id] = NULL_REF;
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int needed = varIntSize(bytes.length) + bytes.length;
+            if (needed > SEGMENT_SIZE) {
+                throw new IllegalArgumentException("Value too large: " + bytes.length + " bytes");
+            }
+            int position = allocate(needed);
+            ByteBuffer segment = segments.get(segments.size() - 1);
+            for (int length = bytes.length; ; length >>>= 7) {
+                if (length < 0x80) {
+                    segment.put(position++, (byte) length);
+                    break;
+                }
+                segment.put(position++, (byte) (length & 0x7F | 0x80));
+            }
+            segment.put(position, bytes);
+            refs[id] = (int) (writePosition - needed);
+        }
+
+        /**
+         * Rewrites the values of the live row ids into fresh segments, dropping every other value.
+         * The encoded bytes are copied as they are.
+         * @param live the live row ids
+         * @param idCount the number of row ids handed out
+         */
+        void compact(BitSet live, int idCount) {
+            List<ByteBuffer> old = new ArrayList<>(segments);
+            segments.clear();
+            writePosition = 0;
+            for (int id = 0; id < Math.min(idCount, refs.length); id++) {
+                int ref = refs[id];
+                if (ref == NULL_REF) {
+                    continue;
+                }
+                if (!live.get(id)) {
+                    refs[id] = NULL_REF;
+                    continue;
+                }
+                ByteBuffer segment = old.get(ref >>> SEGMENT_SHIFT);
+                int start = ref & (SEGMENT_SIZE - 1);
+                int position = start;
+                int length = 0;
+                for (int shift = 0; ; shift += 7) {
+                    byte b = segment.get(position++);
+                    length |= (b & 0x7F) << shift;
+                    if (b >= 0) {
+                        break;
+                    }
+                }
+                int needed = position - start + length;
+                int offset = allocate(needed);
+                segments.get(segments.size() - 1).put(offset, segment, start, needed);
+                refs[id] = (int) (writePosition - needed);
+            }
+        }
+
+        /**
+         * Reserves room for a value in the last segment, adding a segment if it does not fit.
+         * @param needed the number of bytes of the encoded value
+         * @return the offset of the value in the last segment
+         */
+        private int allocate(int needed) {
+            int offset = (int) (writePosition & (SEGMENT_SIZE - 1));
+            if (writePosition == (long) segments.size() * SEGMENT_SIZE || offset + needed > SEGMENT_SIZE) {
+                writePosition = (long) segments.size() * SEGMENT_SIZE;
+                segments.add(ByteBuffer.allocateDirect(SEGMENT_SIZE));
+                offset = 0;
+            }
+            if (writePosition + needed >= MAX_COLUMN_BYTES) {
+                throw new IllegalStateException("Column is full");
+            }
+            writePosition += needed;
+            return offset;
+        }
+
+        /**
+         * Returns the value of a row.
+         * @param id the row id
+         * @return the value, or null
+         */
+        String get(int id) {
+            int ref = refs[id];
+            if (ref == NULL_REF) {
+                return null;
+            }
+            ByteBuffer segment = segments.get(ref >>> SEGMENT_SHIFT);
+            int position = ref & (SEGMENT_SIZE - 1);
+            int length = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = segment.get(position++);
+                length |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            byte[] bytes = new byte[length];
+            segment.get(position, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Checks whether the value of a row contains a byte pattern.
+         * @param id the row id
+         * @param pattern the pattern, lower cased if the case is ignored
+         * @param ignoreCase true to ignore the case of ASCII letters
+         * @return true if the value contains the pattern
+         */
+        boolean contains(int id, byte[] pattern, boolean ignoreCase) {
+            int ref = refs[id];
+            if (ref == NULL_REF) {
+                return false;
+            }
+            ByteBuffer segment = segments.get(ref >>> SEGMENT_SHIFT);
+            int position = ref & (SEGMENT_SIZE - 1);
+            int length = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = segment.get(position++);
+                length |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            int last = position + length - pattern.length;
+            for (int i = position; i <= last; i++) {
+                int k = 0;
+                while (k < pattern.length) {
+                    byte b = segment.get(i + k);
+                    if ((ignoreCase ? toLowerAscii(b) : b) != pattern[k]) {
+                        break;
+                    }
+                    k++;
+                }
+                if (k == pattern.length) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the number of bytes of a length prefix.
+         * @param length the length
+         * @return the size of its variable length encoding
+         */
+        private static int varIntSize(int length) {
+            int size = 1;
+            while (length >= 0x80) {
+                length >>>= 7;
+                size++;
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package xss.it.nfx.list.collections;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.collections.ObservableListBase;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class MappedNdjsonList<T> extends ObservableListBase<T> implements AutoCloseable {
+    /**
+     * The size of a mapped file segment, a single mapping cannot exceed 2 GB.
+     */
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    /**
+     * The number of offsets held by an off-heap index chunk.
+     */
+    private static final int INDEX_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * The number of bytes scanned between two publications of the indexed lines.
+     */
+    private static final int PUBLISH_INTERVAL = 1 << 24;
+
+    /**
+     * The default number of decoded rows kept in memory.
+     */
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+
+    /**
+     * The file channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The mapped segments of the file.
+     */
+    private final MappedByteBuffer[] segments;
+
+    /**
+     * The size of the file.
+     */
+    private final long fileSize;
+
+    /**
+     * The function decoding a line into a row.
+     */
+    private final Function<String, T> decoder;
+
+    /**
+     * The most recently decoded rows by index, in access order, kept strongly reachable.
+     */
+    private final LinkedHashMap<Integer, T> cache;
+
+    /**
+     * Every decoded row that is still reachable, by index.
+     * A row evicted from the cache but still held elsewhere, by a cell or the selection, is returned again
+     * instead of being decoded into a new object, so rows keep their identity while they are in use.
+     */
+    private final Map<Integer, RowReference<T>> rows;
+
+    /**
+     * The queue of the references to rows that were collected.
+     */
+    private final ReferenceQueue<T> collectedRows;
+
+    /**
+     * The index of every decoded row that is still reachable, so they are found without decoding the file.
+     */
+    private final Map<Object, Integer> rowPositions;
+
+    /**
+     * The off-heap chunks of line start offsets, written by the indexer.
+     * The array is replaced when a chunk is added, so readers keep a consistent view.
+     */
+    private volatile LongBuffer[] offsets;
+
+    /**
+     * The number of lines indexed so far, written by the indexer.
+     */
+    private volatile int indexedCount = 0;
+
+    /**
+     * The number of lines published to the list, only read and written on the FX thread.
+     */
+    private int size = 0;
+
+    /**
+     * Flag indicating whether a publication is scheduled on the FX thread.
+     */
+    private final AtomicBoolean publishScheduled;
+
+    /**
+     * Flag indicating whether the list was closed.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * The indexing property.
+     */
+    private final ReadOnlyBooleanWrapper indexing;
+
+    /**
+     * Constructs a MappedNdjsonList.
+     * @param channel the file channel
+     * @param decoder the function decoding a line into a row
+     * @param cacheSize the number of decoded rows kept in memory
+     * @throws IOException if the file cannot be mapped
+     */
+    private MappedNdjsonList(FileChannel channel, Function<String, T> decoder, int cacheSize) throws IOException {
+        this.channel = channel;
+        this.decoder = decoder;
+        this.fileSize = channel.size();
+        this.segments = new MappedByteBuffer[(int) ((fileSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+        for (int i = 0; i < segments.length; i++) {
+            long position = i * SEGMENT_SIZE;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_SIZE, fileSize - position));
+        }
+        this.offsets = new LongBuffer[0];
+        this.publishScheduled = new AtomicBoolean(false);
+        this.indexing = new ReadOnlyBooleanWrapper(this, "indexing", true);
+        this.rows = new HashMap<>();
+        this.collectedRows = new ReferenceQueue<>();
+        this.rowPositions = new WeakHashMap<>();
+        this.cache = new LinkedHashMap<>(cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Opens a newline-delimited JSON file with the default cache size.
+     * @param file the file
+     * @param decoder the function decoding a line into a row
+     * @param <T> the type of the rows
+     * @return the list, growing while the file is indexed
+     * @throws IOException if the file cannot be opened
+     * @see #open(Path, Function, int)
+     */
+    public static <T> MappedNdjsonList<T> open(Path file, Function<String, T> decoder) throws IOException {
+        return open(file, decoder, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Opens a newline-delimited JSON file.
+     * The file is memory-mapped and its line offsets are indexed off-heap by one background pass,
+     * the list grows as lines are indexed. A row is only decoded when it is accessed,
+     * and the most recently accessed rows are cached.
+     * A row keeps its identity as long as it is reachable, reading its index again returns the same object.
+     * {@link #indexOf(Object)} and {@link #contains(Object)} only find reachable rows and compare rows with
+     * {@code equals}, so rows should use identity equality or be unique in the file.
+     * Operations over the whole list, such as {@code toArray()}, decode every row. A list view sorting
+     * the rows with a comparator or with item indexing enabled does so, which defeats the lazy decoding
+     * on large files; sort the file instead.
+     * Blank lines and lines holding only a bracket are skipped and a trailing comma is dropped,
+     * so a JSON array written one element per line is read as well.
+     * @param file the file
+     * @param decoder the function decoding a line into a row
+     * @param cacheSize the number of decoded rows kept in memory, at least the number of visible cells
+     * @param <T> the type of the rows
+     * @return the list, growing while the file is indexed
+     * @throws IOException if the file cannot be opened
+     */
+    public static <T> MappedNdjsonList<T> open(Path file, Function<String, T> decoder, int cacheSize) throws IOException {
+        Objects.requireNonNull(decoder);
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + cacheSize);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            MappedNdjsonList<T> list = new MappedNdjsonList<>(channel, decoder, cacheSize);
+            Thread indexer = new Thread(list::buildIndex, "nfx-ndjson-indexer");
+            indexer.setDaemon(true);
+            indexer.start();
+            return list;
+        }
+        catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns whether the file is still being indexed.
+     * @return true while the list is growing, false once every line is indexed
+     */
+    public boolean isIndexing() {
+        return indexing.get();
+    }
+
+    /**
+     * Returns the indexing property.
+     * @return the read-only boolean property for indexing
+     */
+    public ReadOnlyBooleanProperty indexingProperty() {
+        return indexing.getReadOnlyProperty();
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        T row = cache.get(index);
+        if (row == null) {
+            expungeCollectedRows();
+            RowReference<T> reference = rows.get(index);
+            row = reference == null ? null : reference.get();
+            if (row == null) {
+                row = decoder.apply(readLine(offsetAt(index)));
+                rows.put(index, new RowReference<>(row, index, collectedRows));
+                rowPositions.putIfAbsent(row, index);
+            }
+            cache.put(index, row);
+        }
+        return row;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of a row among the decoded rows that are still reachable.
+     * Searching the whole list would decode the whole file, so rows that were never read,
+     * or were collected since, are not found. Rows held by cells or by the selection are always found.
+     * @param o the row
+     * @return the index of the row, or -1 if it is not reachable
+     */
+    @Override
+    public int indexOf(Object o) {
+        return rowPositions.getOrDefault(o, -1);
+    }
+
+    /**
+     * Returns the index of a row among the decoded rows that are still reachable.
+     * @param o the row
+     * @return the index of the row, or -1 if it is not reachable
+     * @see #indexOf(Object)
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    /**
+     * Returns whether a row is among the decoded rows that are still reachable.
+     * @param o the row
+     * @return true if the row is reachable
+     * @see #indexOf(Object)
+     */
+    @Override
+    public boolean contains(Object o) {
+        return rowPositions.containsKey(o);
+    }
+
+    /**
+     * Stops indexing and releases the file.
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+
+    /**
+     * Scans the file once and records the start offset of every row.
+     * Runs on the indexer thread.
+     */
+    private void buildIndex() {
+        LongBuffer chunk = null;
+        int count = 0;
+        long lineStart = 0;
+        boolean content = false;
+        boolean bracket = false;
+        try {
+            for (int s = 0; s < segments.length && !closed; s++) {
+                ByteBuffer segment = segments[s].duplicate();
+                long base = s * SEGMENT_SIZE;
+                int limit = segment.limit();
+                for (int i = 0; i < limit; i++) {
+                    byte b = segment.get(i);
+                    if (b == '\n') {
+                        if (content && !bracket) {
+                            if (count % INDEX_CHUNK_SIZE == 0) {
+                                chunk = addChunk();
+                            }
+                            chunk.put(count % INDEX_CHUNK_SIZE, lineStart);
+                            count++;
+                        }
+                        lineStart = base + i + 1;
+                        content = false;
+                        bracket = false;
+                    }
+                    else if (!content && b != ' ' && b != '\t' && b != '\r') {
+                        content = true;
+                        bracket = b == '[' || b == ']';
+                    }
+                    else if (bracket && b != ' ' && b != '\t' && b != '\r' && b != ',') {
+                        bracket = false;
+                    }
+                    if ((i & (PUBLISH_INTERVAL - 1)) == PUBLISH_INTERVAL - 1) {
+                        indexedCount = count;
+                        schedulePublish();
+                    }
+                }
+                indexedCount = count;
+                schedulePublish();
+            }
+            if (content && !bracket && !closed) {
+                if (count % INDEX_CHUNK_SIZE == 0) {
+                    chunk = addChunk();
+                }
+                chunk.put(count % INDEX_CHUNK_SIZE, lineStart);
+                count++;
+            }
+        }
+        finally {
+            indexedCount = count;
+            Platform.runLater(() -> {
+                publish();
+                indexing.set(false);
+            });
+        }
+    }
+
+    /**
+     * Adds an off-heap chunk to the index.
+     * @return the new chunk
+     */
+    private LongBuffer addChunk() {
+        LongBuffer chunk = ByteBuffer.allocateDirect(INDEX_CHUNK_SIZE * Long.BYTES).asLongBuffer();
+        LongBuffer[] grown = Arrays.copyOf(offsets, offsets.length + 1);
+        grown[offsets.length] = chunk;
+        offsets = grown;
+        return chunk;
+    }
+
+    /**
+     * Schedules the publication of the lines indexed so far.
+     * Publications are coalesced, the FX thread sees at most one pending publication.
+     */
+    private void schedulePublish() {
+        if (publishScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::publish);
+        }
+    }
+
+    /**
+     * Grows the list to the lines indexed so far, with a single change.
+     */
+    private void publish() {
+        publishScheduled.set(false);
+        int count = indexedCount;
+        if (count > size) {
+            int from = size;
+            size = count;
+            beginChange();
+            nextAdd(from, count);
+            endChange();
+        }
+    }
+
+    /**
+     * Drops the references to the rows that were collected.
+     */
+    private void expungeCollectedRows() {
+        Object collected;
+        while ((collected = collectedRows.poll()) != null) {
+            RowReference<?> reference = (RowReference<?>) collected;
+            rows.remove(reference.index, reference);
+        }
+    }
+
+    /**
+     * Returns the start offset of a line.
+     * @param index the index of the line
+     * @return the offset of the first byte of the line
+     */
+    private long offsetAt(int index) {
+        return offsets[index / INDEX_CHUNK_SIZE].get(index % INDEX_CHUNK_SIZE);
+    }
+
+    /**
+     * Reads a line, without its line terminator and trailing comma.
+     * @param start the offset of the first byte of the line
+     * @return the line
+     */
+    private String readLine(long start) {
+        byte[] bytes = new byte[256];
+        int length = 0;
+        long position = start;
+        while (position < fileSize) {
+            MappedByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)];
+            int i = (int) (position % SEGMENT_SIZE);
+            int limit = segment.limit();
+            while (i < limit && segment.get(i) != '\n') {
+                if (length == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, length * 2);
+                }
+                bytes[length++] = segment.get(i++);
+            }
+            if (i < limit) {
+                break;
+            }
+            position += i - (int) (position % SEGMENT_SIZE);
+        }
+        while (length > 0 && (bytes[length - 1] == '\r' || bytes[length - 1] == ' ' || bytes[length - 1] == '\t')) {
+            length--;
+        }
+        if (length > 0 && bytes[length - 1] == ',') {
+            length--;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A weak reference to a decoded row, remembering its index.
+     * @param <T> the type of the row
+     */
+    private static final class RowReference<T> extends WeakReference<T> {
+        /**
+         * The index of the row.
+         */
+        private final int index;
+
+        /**
+         * Constructs a RowReference.
+         * @param row the row
+         * @param index the index of the row
+         * @param queue the queue the reference is enqueued on once the row is collected
+         */
+        private RowReference(T row, int index, ReferenceQueue<T> queue) {
+            super(row, queue);
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package xss.it.nfx.list.collections;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class RingBufferObservableList<E> extends ObservableListBase<E> {
+    /**
+     * The items, the oldest one at {@link #head}.
+     */
+    private Object[] elements;
+
+    /**
+     * The array position of the oldest item.
+     */
+    private int head = 0;
+
+    /**
+     * The number of items.
+     */
+    private int size = 0;
+
+    /**
+     * The items offered from any thread, waiting for the next flush.
+     */
+    private final Queue<E> pending;
+
+    /**
+     * Flag indicating whether a flush is scheduled on the FX thread.
+     */
+    private final AtomicBoolean flushScheduled;
+
+    /**
+     * Constructs an empty RingBufferObservableList.
+     * @param capacity the maximum number of items kept
+     */
+    public RingBufferObservableList(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.elements = new Object[capacity];
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.flushScheduled = new AtomicBoolean(false);
+    }
+
+    /**
+     * Constructs a RingBufferObservableList holding the newest of the given items.
+     * @param capacity the maximum number of items kept
+     * @param items the initial items, only the last capacity ones are kept
+     */
+    public RingBufferObservableList(int capacity, Collection<? extends E> items) {
+        this(capacity);
+        Object[] array = items.toArray();
+        int count = Math.min(capacity, array.length);
+        System.arraycopy(array, array.length - count, elements, 0, count);
+        size = count;
+    }
+
+    /**
+     * Returns the maximum number of items kept.
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    /**
+     * Changes the maximum number of items kept, evicting the oldest items if it shrinks.
+     * @param capacity the new capacity
+     */
+    public void setCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (capacity == elements.length) {
+            return;
+        }
+        List<E> evicted = evict(Math.max(0, size - capacity));
+        Object[] resized = new Object[capacity];
+        copyInto(resized);
+        elements = resized;
+        head = 0;
+        if (!evicted.isEmpty()) {
+            beginChange();
+            nextRemove(0, evicted);
+            endChange();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[position(index)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        copyInto(array);
+        return array;
+    }
+
+    /**
+     * Appends an item at the end, evicting the oldest item if the list is full.
+     * Must be called on the FX thread, use {@link #offer(Object)} from other threads.
+     * @param item the item
+     * @return true
+     */
+    @Override
+    public boolean add(E item) {
+        append(List.of(item));
+        return true;
+    }
+
+    /**
+     * Appends items at the end, evicting as many of the oldest items as needed, with a single change.
+     * Must be called on the FX thread, use {@link #offer(Object)} from other threads.
+     * @param items the items
+     * @return true if items were added
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(Collection<? extends E> items) {
+        if (items.isEmpty()) {
+            return false;
+        }
+        append((List<E>) Arrays.asList(items.toArray()));
+        return true;
+    }
+
+    /**
+     * Inserts an item, evicting the oldest item if the list is full.
+     * An item inserted at the front of a full list is the oldest one, so it is dropped right away.
+     * @param index the index of the item
+     * @param item the item
+     */
+    @Override
+    public void add(int index, E item) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(item);
+            return;
+        }
+        List<E> evicted = List.of();
+        if (size == elements.length) {
+            if (index == 0) {
+                return;
+            }
+            evicted = evict(1);
+            index--;
+        }
+        for (int i = size; i > index; i--) {
+            elements[position(i)] = elements[position(i - 1)];
+        }
+        elements[position(index)] = item;
+        size++;
+        beginChange();
+        if (!evicted.isEmpty()) {
+            nextRemove(0, evicted);
+        }
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    /**
+     * Replaces an item.
+     * @param index the index of the item
+     * @param item the new item
+     * @return the replaced item
+     */
+    @Override
+    public E set(int index, E item) {
+        E old = get(index);
+        elements[position(index)] = item;
+        beginChange();
+        nextSet(index, old);
+        endChange();
+        return old;
+    }
+
+    /**
+     * Replaces every item, keeping only the newest of the given items, with a single change.
+     * @param items the new items
+     * @return true
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean setAll(Collection<? extends E> items) {
+        List<E> removed = evict(size);
+        head = 0;
+        Object[] array = items.toArray();
+        int count = Math.min(elements.length, array.length);
+        System.arraycopy(array, array.length - count, elements, 0, count);
+        size = count;
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (count > 0) {
+            nextAdd(0, count);
+        }
+        endChange();
+        return true;
+    }
+
+    /**
+     * Removes an item, shifting the newer items. O(n) in the number of newer items.
+     * @param index the index of the item
+     * @return the removed item
+     */
+    @Override
+    public E remove(int index) {
+        E item = get(index);
+        removeRange(index, index + 1);
+        return item;
+    }
+
+    /**
+     * Removes every occurrence of the given items, with a single change.
+     * @param items the items to remove
+     * @return true if items were removed
+     */
+    @Override
+    public boolean removeAll(Collection<?> items) {
+        return removeMatching(items, true);
+    }
+
+    /**
+     * Removes every item that is not among the given items, with a single change.
+     * @param items the items to keep
+     * @return true if items were removed
+     */
+    @Override
+    public boolean retainAll(Collection<?> items) {
+        return removeMatching(items, false);
+    }
+
+    /**
+     * Removes every item.
+     */
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        List<E> evicted = evict(size);
+        beginChange();
+        nextRemove(0, evicted);
+        endChange();
+    }
+
+    /**
+     * Removes a range of items, shifting the newer items, with a single change.
+     * @param from the index of the first removed item
+     * @param to the index after the last removed item
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void removeRange(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        if (from == to) {
+            return;
+        }
+        int count = to - from;
+        List<E> removed = new ArrayList<>(count);
+        for (int i = from; i < to; i++) {
+            removed.add((E) elements[position(i)]);
+        }
+        for (int i = to; i < size; i++) {
+            elements[position(i - count)] = elements[position(i)];
+        }
+        for (int i = size - count; i < size; i++) {
+            elements[position(i)] = null;
+        }
+        size -= count;
+        beginChange();
+        nextRemove(from, removed);
+        endChange();
+    }
+
+    /**
+     * Queues an item to be appended on the next pulse. Safe to call from any thread.
+     * Every item offered before the flush runs is appended with a single change,
+     * so the list changes at most once per pulse however fast items arrive.
+     * @param item the item
+     */
+    public void offer(E item) {
+        pending.add(item);
+        if (flushScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::flush);
+        }
+    }
+
+    /**
+     * Appends the queued items.
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        List<E> batch = new ArrayList<>();
+        for (E item; (item = pending.poll()) != null; ) {
+            batch.add(item);
+        }
+        if (!batch.isEmpty()) {
+            append(batch);
+        }
+    }
+
+    /**
+     * Appends items, evicting the oldest ones so the list never exceeds its capacity.
+     * Evicting is O(1) per item, only the head of the ring moves.
+     * @param items the items
+     */
+    private void append(List<E> items) {
+        int capacity = elements.length;
+        int skipped = Math.max(0, items.size() - capacity);
+        int count = items.size() - skipped;
+        List<E> evicted = evict(Math.max(0, size + count - capacity));
+        for (int i = skipped; i < items.size(); i++) {
+            elements[position(size)] = items.get(i);
+            size++;
+        }
+        beginChange();
+        if (!evicted.isEmpty()) {
+            nextRemove(0, evicted);
+        }
+        nextAdd(size - count, size);
+        endChange();
+    }
+
+    /**
+     * Removes the items that are, or are not, among the given items, compacting the ring in one pass.
+     * @param items the items to match
+     * @param matching true to remove the matching items, false to remove the others
+     * @return true if items were removed
+     */
+    @SuppressWarnings("unchecked")
+    private boolean removeMatching(Collection<?> items, boolean matching) {
+        int kept = 0;
+        boolean changed = false;
+        beginChange();
+        for (int i = 0; i < size; i++) {
+            E item = (E) elements[position(i)];
+            if (items.contains(item) == matching) {
+                nextRemove(kept, item);
+                changed = true;
+            }
+            else {
+                elements[position(kept++)] = item;
+            }
+        }
+        for (int i = kept; i < size; i++) {
+            elements[position(i)] = null;
+        }
+        size = kept;
+        endChange();
+        return changed;
+    }
+
+    /**
+     * Drops the oldest items.
+     * @param count the number of items to drop
+     * @return the dropped items, oldest first
+     */
+    @SuppressWarnings("unchecked")
+    private List<E> evict(int count) {
+        if (count == 0) {
+            return List.of();
+        }
+        List<E> evicted = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            evicted.add((E) elements[head]);
+            elements[head] = null;
+            head = head + 1 == elements.length ? 0 : head + 1;
+        }
+        size -= count;
+        return evicted;
+    }
+
+    /**
+     * Returns the array position of an index.
+     * @param index the index
+     * @return the position in {@link #elements}
+     */
+    private int position(int index) {
+        int position = head + index;
+        return position >= elements.length ? position - elements.length : position;
+    }
+
+    /**
+     * Copies the items in list order to the start of an array.
+     * @param array the destination
+     */
+    private void copyInto(Object[] array) {
+        int first = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, array, 0, first);
+        System.arraycopy(elements, 0, array, first, size - first);
+    }
+}
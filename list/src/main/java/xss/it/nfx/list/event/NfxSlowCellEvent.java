@@ -0,0 +1,129 @@
+package xss.it.nfx.list.event;
+
+import javafx.event.Event;
+import javafx.event.EventType;
+import xss.it.nfx.list.NfxListView;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public class NfxSlowCellEvent extends Event {
+    /**
+     * Event type for any slow cell call.
+     */
+    public static final EventType<NfxSlowCellEvent> ANY;
+
+    /**
+     * Event type for a slow cell factory call.
+     */
+    public static final EventType<NfxSlowCellEvent> NFX_SLOW_CELL_FACTORY;
+
+    /**
+     * Event type for a slow cell update call.
+     */
+    public static final EventType<NfxSlowCellEvent> NFX_SLOW_CELL_UPDATE;
+
+    /**
+     * The class of the cell.
+     */
+    private final Class<?> cellClass;
+
+    /**
+     * The type key of the cell.
+     */
+    private final Object cellType;
+
+    /**
+     * The index of the item.
+     */
+    private final int index;
+
+    /**
+     * The duration of the call in nanoseconds.
+     */
+    private final long nanos;
+
+    /**
+     * The source of the event.
+     */
+    private final NfxListView<?> source;
+
+    /**
+     * Constructs an NfxSlowCellEvent.
+     * @param source the source of the event
+     * @param eventType the type of the event
+     * @param cellClass the class of the cell
+     * @param cellType the type key of the cell, null for the default type
+     * @param index the index of the item the cell was built or updated for
+     * @param nanos the duration of the call in nanoseconds
+     */
+    public NfxSlowCellEvent(NfxListView<?> source, EventType<NfxSlowCellEvent> eventType, Class<?> cellClass, Object cellType, int index, long nanos) {
+        super(source, Event.NULL_SOURCE_TARGET, eventType);
+        this.source = source;
+        this.cellClass = cellClass;
+        this.cellType = cellType;
+        this.index = index;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Returns the class of the cell.
+     * @return the cell class
+     */
+    public Class<?> getCellClass() {
+        return cellClass;
+    }
+
+    /**
+     * Returns the type key of the cell.
+     * @return the type key, null for the default type
+     */
+    public Object getCellType() {
+        return cellType;
+    }
+
+    /**
+     * Returns the index of the item the cell was built or updated for.
+     * @return the index in the rendered items, -1 if the item is no longer rendered
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the duration of the call.
+     * @return the duration in nanoseconds
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Returns the source of the event.
+     * @return the source
+     */
+    @Override
+    public NfxListView<?> getSource() {
+        return source;
+    }
+
+
+    @Override
+    public String toString() {
+        return "NfxSlowCellEvent{" +
+                "eventType=" + getEventType() +
+                ", cellClass=" + cellClass.getName() +
+                ", cellType=" + cellType +
+                ", index=" + index +
+                ", nanos=" + nanos +
+                '}';
+    }
+
+
+    static {
+        ANY = new EventType<>(Event.ANY, "NFX_SLOW_CELL");
+        NFX_SLOW_CELL_FACTORY = new EventType<>(ANY, "NFX_SLOW_CELL_FACTORY");
+        NFX_SLOW_CELL_UPDATE = new EventType<>(ANY, "NFX_SLOW_CELL_UPDATE");
+    }
+}
@@ -3,7 +3,10 @@ package xss.it.nfx.list.misc;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author XDSSWAR
@@ -80,11 +83,14 @@ public final class SelectionModel<T> {
      */
     public void select(List<T> items) {
         selectedItems.clear();
+        Set<T> seen = new HashSet<>();
+        List<T> distinct = new ArrayList<>(items.size());
         for (T item : items) {
-            if (!isSelected(item)) {
-                selectedItems.add(item);
+            if (seen.add(item)) {
+                distinct.add(item);
             }
         }
+        selectedItems.addAll(distinct);
     }
 
 
@@ -0,0 +1,42 @@
+package xss.it.nfx.list.monitor;
+
+/**
+ * The timing of the calls made to the cells of a class, over the last calls recorded.
+ * Counts and maximums are cumulative since the timings were cleared, percentiles cover the rolling window.
+ *
+ * @param cellClass the name of the cell class
+ * @param phase the timed call
+ * @param calls the number of calls recorded
+ * @param p50Nanos the median duration of the calls in the window, in nanoseconds
+ * @param p90Nanos the 90th percentile of the calls in the window, in nanoseconds
+ * @param p99Nanos the 99th percentile of the calls in the window, in nanoseconds
+ * @param maxNanos the longest call recorded, in nanoseconds
+ * @param slowCalls the number of calls over the slow cell threshold
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public record NfxCellTiming(
+        String cellClass,
+        Phase phase,
+        long calls,
+        long p50Nanos,
+        long p90Nanos,
+        long p99Nanos,
+        long maxNanos,
+        long slowCalls
+) {
+    /**
+     * The timed calls.
+     */
+    public enum Phase {
+        /**
+         * The cell factory call building the cell.
+         */
+        FACTORY,
+
+        /**
+         * The update call binding the cell to an item.
+         */
+        UPDATE
+    }
+}
@@ -0,0 +1,31 @@
+package xss.it.nfx.list.monitor;
+
+/**
+ * A frame over the jank threshold, with what the list view did during it.
+ * The counters are the difference between the statistics taken at the start of the two pulses bounding the frame,
+ * so they cover the layout pass of the pulse that started the frame and anything done before the next pulse.
+ *
+ * @param timestamp the timestamp of the pulse that ended the frame, in nanoseconds
+ * @param frameNanos the duration of the frame, pulse to pulse, in nanoseconds
+ * @param layoutNanos the time the scene spent in layout passes during the frame, in nanoseconds
+ * @param updateCellsCount the number of layout passes over the visible cells
+ * @param updateCellsNanos the time spent in those layout passes, in nanoseconds
+ * @param cellsCreated the number of cells built by the cell factories
+ * @param cellsReused the number of times a pooled cell was rebound instead of building one
+ * @param resets the number of full resets, discarding every cell
+ * @param itemCount the number of items at the end of the frame
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public record NfxJankFrame(
+        long timestamp,
+        long frameNanos,
+        long layoutNanos,
+        long updateCellsCount,
+        long updateCellsNanos,
+        long cellsCreated,
+        long cellsReused,
+        long resets,
+        int itemCount
+) {
+}
@@ -0,0 +1,332 @@
+package xss.it.nfx.list.monitor;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.scene.Scene;
+import javafx.util.Duration;
+import xss.it.nfx.list.NfxListView;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class NfxJankMonitor {
+    /**
+     * The default number of frames kept for the percentiles.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The default frame budget, one frame at 60 frames per second.
+     */
+    private static final Duration DEFAULT_THRESHOLD = Duration.millis(1000.0 / 60);
+
+    /**
+     * The monitored list view.
+     */
+    private final NfxListView<?> listView;
+
+    /**
+     * The durations of the last recorded frames, in nanoseconds, as a ring buffer.
+     */
+    private final long[] frames;
+
+    /**
+     * The number of recorded frames.
+     */
+    private long frameCount = 0;
+
+    /**
+     * The number of recorded frames over the threshold.
+     */
+    private long jankCount = 0;
+
+    /**
+     * The threshold in nanoseconds.
+     */
+    private long thresholdNanos = toNanos(DEFAULT_THRESHOLD);
+
+    /**
+     * The callback notified of the frames over the threshold.
+     */
+    private Consumer<NfxJankFrame> onJank;
+
+    /**
+     * The timestamp of the previous pulse, 0 if none was seen since the monitor started.
+     */
+    private long lastPulse = 0;
+
+    /**
+     * The statistics of the list view at the previous pulse.
+     */
+    private NfxListStatistics lastStatistics;
+
+    /**
+     * The start of the layout pass of the current pulse.
+     */
+    private long layoutStart = 0;
+
+    /**
+     * The time spent in layout passes since the previous pulse.
+     */
+    private long layoutNanos = 0;
+
+    /**
+     * The scene the pulse listeners are registered on.
+     */
+    private Scene scene;
+
+    /**
+     * Called at each pulse, before the layout pass.
+     */
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onPulse(now);
+        }
+    };
+
+    /**
+     * Called before the layout pass of the scene.
+     */
+    private final Runnable preLayout = () -> layoutStart = System.nanoTime();
+
+    /**
+     * Called after the layout pass of the scene.
+     */
+    private final Runnable postLayout = () -> {
+        if (layoutStart != 0) {
+            layoutNanos += System.nanoTime() - layoutStart;
+            layoutStart = 0;
+        }
+    };
+
+    /**
+     * Moves the pulse listeners to the scene of the list view.
+     */
+    private final InvalidationListener sceneListener;
+
+    /**
+     * Constructs an NfxJankMonitor keeping the last 1024 frames.
+     * @param listView the list view to monitor
+     */
+    public NfxJankMonitor(NfxListView<?> listView) {
+        this(listView, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an NfxJankMonitor.
+     * The monitor does nothing until started. While running it keeps the pulses going,
+     * so it should only be started while investigating or sampling.
+     * Must only be used on the FX thread.
+     * @param listView the list view to monitor
+     * @param capacity the number of frames kept for the percentiles
+     */
+    public NfxJankMonitor(NfxListView<?> listView, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.listView = Objects.requireNonNull(listView);
+        this.sceneListener = obs -> attach(listView.getScene());
+        this.frames = new long[capacity];
+    }
+
+    /**
+     * Starts recording the frames in which the list view lays out its cells.
+     */
+    public void start() {
+        if (isRunning()) {
+            return;
+        }
+        lastPulse = 0;
+        lastStatistics = listView.getStatistics();
+        listView.sceneProperty().addListener(sceneListener);
+        attach(listView.getScene());
+        timer.start();
+    }
+
+    /**
+     * Stops recording. The recorded frames are kept.
+     */
+    public void stop() {
+        if (!isRunning()) {
+            return;
+        }
+        timer.stop();
+        listView.sceneProperty().removeListener(sceneListener);
+        attach(null);
+        lastStatistics = null;
+    }
+
+    /**
+     * Returns whether the monitor is recording.
+     * @return true if started and not stopped
+     */
+    public boolean isRunning() {
+        return lastStatistics != null;
+    }
+
+    /**
+     * Returns the duration over which a frame is reported as jank.
+     * @return the threshold, 1/60 second by default
+     */
+    public Duration getThreshold() {
+        return toMillis(thresholdNanos);
+    }
+
+    /**
+     * Sets the duration over which a frame is reported as jank.
+     * @param threshold the threshold
+     */
+    public void setThreshold(Duration threshold) {
+        if (!threshold.greaterThan(Duration.ZERO) || threshold.isIndefinite()) {
+            throw new IllegalArgumentException("Threshold must be positive and finite: " + threshold);
+        }
+        this.thresholdNanos = toNanos(threshold);
+    }
+
+    /**
+     * Returns the callback notified of the frames over the threshold.
+     * @return the callback, or null
+     */
+    public Consumer<NfxJankFrame> getOnJank() {
+        return onJank;
+    }
+
+    /**
+     * Sets the callback notified of the frames over the threshold, on the FX thread.
+     * @param onJank the callback, or null
+     */
+    public void setOnJank(Consumer<NfxJankFrame> onJank) {
+        this.onJank = onJank;
+    }
+
+    /**
+     * Returns the number of frames recorded since the monitor was created or cleared.
+     * @return the number of frames
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns the number of frames over the threshold since the monitor was created or cleared.
+     * @return the number of jank frames
+     */
+    public long getJankCount() {
+        return jankCount;
+    }
+
+    /**
+     * Returns a percentile of the durations of the last recorded frames.
+     * @param percentile the percentile, between 0 and 100
+     * @return the frame duration at the percentile, zero if no frame was recorded
+     */
+    public Duration getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        int size = (int) Math.min(frameCount, frames.length);
+        if (size == 0) {
+            return Duration.ZERO;
+        }
+        long[] sorted = Arrays.copyOf(frames, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * size) - 1;
+        return toMillis(sorted[Math.max(0, rank)]);
+    }
+
+    /**
+     * Drops the recorded frames.
+     */
+    public void clear() {
+        frameCount = 0;
+        jankCount = 0;
+    }
+
+    /**
+     * Records the frame ending at a pulse, if the list view laid out its cells during it.
+     * Idle frames are skipped, so the percentiles describe scrolling and updates only.
+     * @param now the pulse timestamp
+     */
+    private void onPulse(long now) {
+        if (!isRunning()) {
+            /*
+             * A timer stopped during a pulse is still called for that pulse
+             */
+            return;
+        }
+        NfxListStatistics statistics = listView.getStatistics();
+        NfxListStatistics previous = lastStatistics;
+        long frameNanos = now - lastPulse;
+        boolean first = lastPulse == 0;
+        long layout = layoutNanos;
+        lastPulse = now;
+        lastStatistics = statistics;
+        layoutNanos = 0;
+        if (first || statistics.updateCellsCount() == previous.updateCellsCount()) {
+            return;
+        }
+        frames[(int) (frameCount % frames.length)] = frameNanos;
+        frameCount++;
+        if (frameNanos <= thresholdNanos) {
+            return;
+        }
+        jankCount++;
+        if (onJank != null) {
+            onJank.accept(new NfxJankFrame(
+                    now,
+                    frameNanos,
+                    layout,
+                    statistics.updateCellsCount() - previous.updateCellsCount(),
+                    statistics.updateCellsNanos() - previous.updateCellsNanos(),
+                    statistics.cellsCreated() - previous.cellsCreated(),
+                    statistics.cellsReused() - previous.cellsReused(),
+                    statistics.resets() - previous.resets(),
+                    statistics.itemCount()
+            ));
+        }
+    }
+
+    /**
+     * Converts a duration to nanoseconds.
+     * @param duration the duration
+     * @return the duration in nanoseconds
+     */
+    private static long toNanos(Duration duration) {
+        return (long) (duration.toMillis() * 1_000_000);
+    }
+
+    /**
+     * Converts nanoseconds to a duration.
+     * @param nanos the duration in nanoseconds
+     * @return the duration
+     */
+    private static Duration toMillis(long nanos) {
+        return Duration.millis(nanos / 1_000_000.0);
+    }
+
+    /**
+     * Moves the pulse listeners to a scene.
+     * @param scene the scene, or null to only remove them
+     */
+    private void attach(Scene scene) {
+        if (this.scene == scene) {
+            return;
+        }
+        if (this.scene != null) {
+            this.scene.removePreLayoutPulseListener(preLayout);
+            this.scene.removePostLayoutPulseListener(postLayout);
+        }
+        this.scene = scene;
+        layoutStart = 0;
+        if (scene != null) {
+            scene.addPreLayoutPulseListener(preLayout);
+            scene.addPostLayoutPulseListener(postLayout);
+        }
+    }
+}
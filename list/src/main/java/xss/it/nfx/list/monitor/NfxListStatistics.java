@@ -0,0 +1,29 @@
+package xss.it.nfx.list.monitor;
+
+/**
+ * A snapshot of the runtime statistics of a list view.
+ * Counters are cumulative since the list view was created.
+ *
+ * @param cellsCreated the number of cells built by the cell factories
+ * @param cellsReused the number of times a pooled cell was rebound instead of building one
+ * @param liveCells the number of cells bound by the list view plus the idle cells of its pool, the shared
+ *                  cell pool if one is set, whose idle cells are then counted by every list view sharing it
+ * @param updateCellsCount the number of layout passes over the visible cells
+ * @param updateCellsNanos the time spent in those layout passes, in nanoseconds
+ * @param resets the number of full resets, discarding every cell
+ * @param selectedCount the number of selected items
+ * @param itemCount the number of items
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public record NfxListStatistics(
+        long cellsCreated,
+        long cellsReused,
+        int liveCells,
+        long updateCellsCount,
+        long updateCellsNanos,
+        long resets,
+        int selectedCount,
+        int itemCount
+) {
+}
@@ -0,0 +1,57 @@
+package xss.it.nfx.list.monitor;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public interface NfxListViewMXBean {
+    /**
+     * Returns the number of cells built by the cell factories.
+     * @return the number of cells created
+     */
+    long getCellsCreated();
+
+    /**
+     * Returns the number of times a pooled cell was rebound instead of building one.
+     * @return the number of cells reused
+     */
+    long getCellsReused();
+
+    /**
+     * Returns the number of cells bound by the list view plus the idle cells of its pool.
+     * With a shared cell pool, its idle cells are counted by every list view sharing it,
+     * as in the debug overlay.
+     * @return the number of live cells
+     */
+    int getLiveCells();
+
+    /**
+     * Returns the number of layout passes over the visible cells.
+     * @return the number of updateCells invocations
+     */
+    long getUpdateCellsCount();
+
+    /**
+     * Returns the time spent in layout passes over the visible cells.
+     * @return the cumulative time in nanoseconds
+     */
+    long getUpdateCellsNanos();
+
+    /**
+     * Returns the number of full resets, discarding every cell.
+     * @return the number of resets
+     */
+    long getResets();
+
+    /**
+     * Returns the number of selected items.
+     * @return the selection size
+     */
+    int getSelectedCount();
+
+    /**
+     * Returns the number of items.
+     * @return the items count
+     */
+    int getItemCount();
+}
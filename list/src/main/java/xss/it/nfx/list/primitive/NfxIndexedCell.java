@@ -0,0 +1,147 @@
+package xss.it.nfx.list.primitive;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public abstract class NfxIndexedCell extends Region {
+    /**
+     * The style class for the cell.
+     */
+    private static final String STYLE_CLASS = "nfx-cell";
+
+    /**
+     * The pseudo-class for the selected state.
+     */
+    private static final PseudoClass PSEUDO_CLASS_SELECTED = PseudoClass.getPseudoClass("selected");
+
+    /**
+     * The index of the value the cell is bound to, -1 if it is not bound.
+     */
+    private int index = -1;
+
+    /**
+     * The label reused by {@link #setText(String)}.
+     */
+    private Label label;
+
+    /**
+     * Constructs an NfxIndexedCell.
+     */
+    NfxIndexedCell() {
+        super();
+        getStyleClass().add(STYLE_CLASS);
+    }
+
+    /**
+     * The selected property.
+     */
+    private final BooleanProperty selected = new BooleanPropertyBase() {
+        @Override
+        public Object getBean() {
+            return NfxIndexedCell.this;
+        }
+
+        @Override
+        public String getName() {
+            return "selected";
+        }
+
+        @Override
+        protected void invalidated() {
+            NfxIndexedCell.this.pseudoClassStateChanged(PSEUDO_CLASS_SELECTED, get());
+        }
+    };
+
+    /**
+     * Returns the index of the value the cell is bound to.
+     * @return the index in the list view storage, -1 if the cell is not bound
+     */
+    public final int getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the selected state of the cell.
+     * @param selected the new selected state
+     */
+    public final void setSelected(boolean selected) {
+        this.selected.set(selected);
+    }
+
+    /**
+     * Returns whether the cell is selected.
+     * @return true if the cell is selected, false otherwise
+     */
+    public final boolean isSelected() {
+        return selected.get();
+    }
+
+    /**
+     * Returns the selected property.
+     * @return the read-only boolean property for the selected state
+     */
+    public final ReadOnlyBooleanProperty selectedProperty() {
+        return selected;
+    }
+
+    /**
+     * Binds the cell to the value at an index.
+     * @param index the index in the list view storage
+     * @param selected whether the value is selected
+     */
+    public final void bind(int index, boolean selected) {
+        this.index = index;
+        setSelected(selected);
+        bindIndex(index);
+    }
+
+    /**
+     * Reads the value at an index from the list view and updates the cell with it.
+     * @param index the index in the list view storage
+     */
+    abstract void bindIndex(int index);
+
+    /**
+     * Sets the text for the cell, reusing the same label on every call.
+     * @param text the text to set
+     */
+    public final void setText(String text) {
+        if (label == null) {
+            label = new Label();
+            label.getStyleClass().add("nfx-factory-label");
+        }
+        label.setText(text);
+        if (getChildren().size() != 1 || getChildren().get(0) != label) {
+            getChildren().setAll(label);
+        }
+    }
+
+    /**
+     * Sets the graphics for the cell.
+     * @param graphics the graphics node to set
+     */
+    public final void setGraphics(Node graphics) {
+        if (graphics != null) {
+            getChildren().setAll(graphics);
+        }
+    }
+
+    /**
+     * Lays out the children nodes within the cell.
+     */
+    @Override
+    protected final void layoutChildren() {
+        for (Node child : getChildren()) {
+            child.resizeRelocate(0, 0, getWidth(), getHeight());
+        }
+    }
+}
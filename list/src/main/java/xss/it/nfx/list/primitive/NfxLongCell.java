@@ -0,0 +1,43 @@
+package xss.it.nfx.list.primitive;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public class NfxLongCell extends NfxIndexedCell {
+    /**
+     * The list view that contains the cell.
+     */
+    private final NfxLongListView listView;
+
+    /**
+     * Constructs an NfxLongCell with the specified list view.
+     * @param listView the list view that contains the cell
+     */
+    public NfxLongCell(NfxLongListView listView) {
+        super();
+        this.listView = listView;
+    }
+
+    /**
+     * Returns the list view that contains the cell.
+     * @return the list view
+     */
+    public final NfxLongListView getListView() {
+        return listView;
+    }
+
+    @Override
+    final void bindIndex(int index) {
+        update(listView.get(index));
+    }
+
+    /**
+     * Updates the cell with the given value.
+     * Override to customize the cell, the index of the value is available from {@link #getIndex()}.
+     * @param value the value to update the cell with
+     */
+    public void update(long value) {
+        setText(Long.toString(value));
+    }
+}
@@ -0,0 +1,125 @@
+package xss.it.nfx.list.primitive;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public final class NfxLongListView extends NfxPrimitiveListView<NfxLongListView, NfxLongCell, LongPredicate> {
+    /**
+     * The values, only the first {@link #size} are used.
+     */
+    private long[] values;
+
+    /**
+     * The number of values.
+     */
+    private int size = 0;
+
+    /**
+     * Constructs an empty NfxLongListView.
+     */
+    public NfxLongListView() {
+        super(NfxLongCell::new);
+        this.values = new long[0];
+    }
+
+    /**
+     * Constructs an NfxLongListView showing the given values.
+     * @param values the values, used as the storage without being copied
+     */
+    public NfxLongListView(long... values) {
+        this();
+        setItems(values);
+    }
+
+    /**
+     * Sets the values to show and clears the selection.
+     * The array is used as the storage without being copied,
+     * changes made to it directly are shown after {@link #refresh()}.
+     * @param values the values
+     */
+    public void setItems(long... values) {
+        this.values = Objects.requireNonNull(values);
+        this.size = values.length;
+        clearSelection();
+        applyFilter();
+    }
+
+    /**
+     * Returns the values.
+     * @return a copy of the values
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Returns the value at an index.
+     * @param index the index
+     * @return the value
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Replaces the value at an index.
+     * @param index the index
+     * @param value the new value
+     */
+    public void set(int index, long value) {
+        checkIndex(index);
+        boolean accepted = getFilter() != null && accepts(index);
+        values[index] = value;
+        valueReplaced(index, accepted);
+    }
+
+    /**
+     * Appends a value.
+     * @param value the value
+     */
+    public void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(16, size + (size >> 1)));
+        }
+        values[size++] = value;
+        valueAdded();
+    }
+
+    /**
+     * Removes every value.
+     */
+    public void clear() {
+        setItems(new long[0]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the selected values, in index order.
+     * @return the selected values
+     */
+    public long[] getSelectedValues() {
+        BitSet selected = getSelectedIndices();
+        long[] result = new long[selected.cardinality()];
+        int i = 0;
+        for (int index = selected.nextSetBit(0); index >= 0; index = selected.nextSetBit(index + 1)) {
+            result[i++] = values[index];
+        }
+        return result;
+    }
+
+    @Override
+    boolean accepts(int index) {
+        return getFilter().test(values[index]);
+    }
+}
@@ -0,0 +1,415 @@
+package xss.it.nfx.list.primitive;
+
+import com.xss.it.nfx.list.internals.IndexedFlow;
+import com.xss.it.nfx.list.skin.IndexedListViewSkin;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.css.StyleableDoubleProperty;
+import javafx.scene.control.Control;
+import javafx.scene.control.Skin;
+import javafx.util.Callback;
+import xss.it.nfx.list.NfxListView;
+import xss.it.nfx.list.misc.SelectionModel;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * @author XDSSWAR
+ * Created on 10/19/2026
+ */
+public abstract class NfxPrimitiveListView<V extends NfxPrimitiveListView<V, C, P>, C extends NfxIndexedCell, P> extends Control {
+    /**
+     * The style sheet for the list view, shared with {@link NfxListView}.
+     */
+    private static final String STYLE_SHEET = NfxListView.load("/xss/it/nfx/list/nfx-list-view.css").toExternalForm();
+
+    /**
+     * The style class for the delegate flow.
+     */
+    private static final String STYLE_CLASS = "nfx-list-view";
+
+    /**
+     * The delegate IndexedFlow.
+     * Cells are bound to an index of the primitive storage and read their value themselves,
+     * so values are never boxed while scrolling, selecting or filtering.
+     */
+    private final IndexedFlow flow;
+
+    /**
+     * The factory of the default cells.
+     */
+    private final Callback<V, C> defaultCellFactory;
+
+    /**
+     * The indices of the values accepted by the filter, only the first {@link #acceptedCount} are used.
+     * Null when there is no filter.
+     */
+    private int[] accepted;
+
+    /**
+     * The number of values accepted by the filter.
+     */
+    private int acceptedCount = 0;
+
+    /**
+     * Constructs an NfxPrimitiveListView.
+     * @param defaultCellFactory the factory of the default cells
+     */
+    NfxPrimitiveListView(Callback<V, C> defaultCellFactory) {
+        this.defaultCellFactory = defaultCellFactory;
+        flow = new IndexedFlow(this::createCell);
+        flow.getStyleClass().add(STYLE_CLASS);
+    }
+
+    /**
+     * Returns whether the filter accepts the value at an index. Only called while a filter is set.
+     * @param index the index
+     * @return true if the value is shown
+     */
+    abstract boolean accepts(int index);
+
+    /**
+     * Creates a new cell for this list view.
+     * @return the cell
+     */
+    @SuppressWarnings("unchecked")
+    private NfxIndexedCell createCell() {
+        Callback<V, C> factory = getCellFactory();
+        return (factory == null ? defaultCellFactory : factory).call((V) this);
+    }
+
+    /**
+     * Returns the number of values shown, the values rejected by the filter are not counted.
+     * @return the number of rows
+     */
+    public int getRowCount() {
+        return flow.getRowCount();
+    }
+
+    /**
+     * Returns the row count property.
+     * @return the read-only integer property for the number of rows
+     */
+    public ReadOnlyIntegerProperty rowCountProperty() {
+        return flow.rowCountProperty();
+    }
+
+    /**
+     * Returns the cell height.
+     * @return the cell height
+     */
+    public double getCellHeight() {
+        return flow.getCellHeight();
+    }
+
+    /**
+     * Sets the cell height.
+     * @param value the new cell height
+     */
+    public void setCellHeight(double value) {
+        flow.setCellHeight(value);
+    }
+
+    /**
+     * Returns the cell height property.
+     * @return the styleable double property for cell height
+     */
+    public StyleableDoubleProperty cellHeightProperty() {
+        return flow.cellHeightProperty();
+    }
+
+    /**
+     * The selection mode property.
+     */
+    private ObjectProperty<SelectionModel.Mode> selectionMode;
+
+    /**
+     * Returns the selection mode.
+     * @return the selection mode
+     */
+    public SelectionModel.Mode getSelectionMode() {
+        return selectionModeProperty().get();
+    }
+
+    /**
+     * Sets the selection mode.
+     * @param selectionMode the new selection mode
+     */
+    public void setSelectionMode(SelectionModel.Mode selectionMode) {
+        selectionModeProperty().set(selectionMode);
+    }
+
+    /**
+     * Returns the selection mode property.
+     * @return the object property for the selection mode
+     */
+    public ObjectProperty<SelectionModel.Mode> selectionModeProperty() {
+        if (selectionMode == null) {
+            selectionMode = new ObjectPropertyBase<>(SelectionModel.Mode.SINGLE) {
+                @Override
+                protected void invalidated() {
+                    flow.setSelectionMode(get() == null ? SelectionModel.Mode.SINGLE : get());
+                }
+
+                @Override
+                public Object getBean() {
+                    return NfxPrimitiveListView.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "selectionMode";
+                }
+            };
+        }
+        return selectionMode;
+    }
+
+    /**
+     * Returns the index of the last selected value.
+     * @return the selected index, -1 if there is none
+     */
+    public int getSelectedIndex() {
+        return flow.getSelectedIndex();
+    }
+
+    /**
+     * Returns the selected index property.
+     * @return the read-only integer property for the selected index
+     */
+    public ReadOnlyIntegerProperty selectedIndexProperty() {
+        return flow.selectedIndexProperty();
+    }
+
+    /**
+     * Returns the selected indices.
+     * @return a copy of the selected indices
+     */
+    public BitSet getSelectedIndices() {
+        return flow.getSelectedIndices();
+    }
+
+    /**
+     * Returns whether the value at an index is selected.
+     * @param index the index
+     * @return true if the value is selected
+     */
+    public boolean isSelected(int index) {
+        return flow.isSelected(index);
+    }
+
+    /**
+     * Selects the value at an index, the previous selection is cleared in single selection mode.
+     * @param index the index
+     */
+    public void select(int index) {
+        checkIndex(index);
+        flow.select(index);
+    }
+
+    /**
+     * Unselects the value at an index.
+     * @param index the index
+     */
+    public void unselect(int index) {
+        flow.unselect(index);
+    }
+
+    /**
+     * Clears the selection.
+     */
+    public void clearSelection() {
+        flow.clearSelection();
+    }
+
+    /**
+     * Scrolls to the value at an index, if it is shown.
+     * @param index the index
+     */
+    public void scrollTo(int index) {
+        flow.scrollTo(index);
+    }
+
+    /**
+     * Binds every visible cell again.
+     */
+    public void refresh() {
+        flow.refreshAll();
+    }
+
+    /**
+     * Returns the number of values.
+     * @return the number of values, including the ones rejected by the filter
+     */
+    public abstract int size();
+
+    /**
+     * The filter property.
+     */
+    private ObjectProperty<P> filter;
+
+    /**
+     * Returns the filter.
+     * @return the predicate a value must match to be shown, or null if every value is shown
+     */
+    public P getFilter() {
+        return filter == null ? null : filter.get();
+    }
+
+    /**
+     * Sets the filter.
+     * @param filter the predicate a value must match to be shown, or null to show every value
+     */
+    public void setFilter(P filter) {
+        filterProperty().set(filter);
+    }
+
+    /**
+     * Returns the filter property.
+     * @return the object property for the filter
+     */
+    public ObjectProperty<P> filterProperty() {
+        if (filter == null) {
+            filter = new ObjectPropertyBase<>() {
+                @Override
+                protected void invalidated() {
+                    applyFilter();
+                }
+
+                @Override
+                public Object getBean() {
+                    return NfxPrimitiveListView.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "filter";
+                }
+            };
+        }
+        return filter;
+    }
+
+    /**
+     * The cell factory property.
+     */
+    private ObjectProperty<Callback<V, C>> cellFactory;
+
+    /**
+     * Returns the cell factory.
+     * @return the callback used to create cells
+     */
+    public Callback<V, C> getCellFactory() {
+        return cellFactoryProperty().get();
+    }
+
+    /**
+     * Sets the cell factory.
+     * @param cellFactory the new callback used to create cells
+     */
+    public void setCellFactory(Callback<V, C> cellFactory) {
+        cellFactoryProperty().set(cellFactory);
+    }
+
+    /**
+     * Returns the cell factory property.
+     * @return the object property for the cell factory
+     */
+    public ObjectProperty<Callback<V, C>> cellFactoryProperty() {
+        if (cellFactory == null) {
+            cellFactory = new ObjectPropertyBase<>(defaultCellFactory) {
+                @Override
+                protected void invalidated() {
+                    flow.rebuildCells();
+                }
+
+                @Override
+                public Object getBean() {
+                    return NfxPrimitiveListView.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "cellFactory";
+                }
+            };
+        }
+        return cellFactory;
+    }
+
+    /**
+     * Checks that an index is within the values.
+     * @param index the index
+     */
+    void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+    }
+
+    /**
+     * Shows a value appended at the last index, if the filter accepts it.
+     */
+    void valueAdded() {
+        int index = size() - 1;
+        if (getFilter() == null) {
+            flow.appendRows(null, size());
+        }
+        else if (accepts(index)) {
+            if (acceptedCount == accepted.length) {
+                accepted = Arrays.copyOf(accepted, Math.max(16, acceptedCount + (acceptedCount >> 1)));
+            }
+            accepted[acceptedCount++] = index;
+            flow.appendRows(accepted, acceptedCount);
+        }
+    }
+
+    /**
+     * Shows a replaced value, filtering again only if the replacement changed whether it is accepted.
+     * @param index the index
+     * @param wasAccepted whether the filter accepted the previous value
+     */
+    void valueReplaced(int index, boolean wasAccepted) {
+        if (getFilter() != null && accepts(index) != wasAccepted) {
+            applyFilter();
+        }
+        else {
+            flow.refresh(index);
+        }
+    }
+
+    /**
+     * Rebuilds the rows from the filter, in a single pass over the values.
+     */
+    void applyFilter() {
+        int size = size();
+        if (getFilter() == null) {
+            accepted = null;
+            acceptedCount = size;
+            flow.setRows(null, size);
+            return;
+        }
+        int[] rows = new int[Math.max(16, size)];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (accepts(i)) {
+                rows[count++] = i;
+            }
+        }
+        accepted = rows;
+        acceptedCount = count;
+        flow.setRows(rows, count);
+    }
+
+    @Override
+    public String getUserAgentStylesheet() {
+        return STYLE_SHEET;
+    }
+
+    @Override
+    protected Skin<?> createDefaultSkin() {
+        return new IndexedListViewSkin(this, flow);
+    }
+}